@@ -1,7 +1,10 @@
 package dev.juviscript.techdeck.config;
 
+import dev.juviscript.techdeck.security.BoundedPasswordEncoder;
 import dev.juviscript.techdeck.security.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -26,6 +29,16 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final UserDetailsService userDetailsService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${password.hashing.pool-size:0}")
+    private int hashingPoolSize;
+
+    @Value("${password.hashing.queue-capacity:64}")
+    private int hashingQueueCapacity;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -75,8 +88,18 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
 
+    /**
+     * BCrypt runs on its own bounded pool so login bursts can't take every request thread.
+     * A pool size of 0 means one thread per available core.
+     */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int poolSize = hashingPoolSize > 0 ? hashingPoolSize : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(bcryptStrength),
+                poolSize,
+                hashingQueueCapacity,
+                meterRegistry
+        );
     }
 }
\ No newline at end of file
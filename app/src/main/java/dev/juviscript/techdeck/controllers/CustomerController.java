@@ -1,23 +1,43 @@
 package dev.juviscript.techdeck.controllers;
 
+import dev.juviscript.techdeck.dto.projection.CustomerSummary;
+import dev.juviscript.techdeck.dto.projection.ServiceLocationSummary;
 import dev.juviscript.techdeck.dto.request.customer.CreateCustomerRequest;
 import dev.juviscript.techdeck.dto.request.customer.CreateServiceLocationRequest;
 import dev.juviscript.techdeck.dto.request.customer.UpdateCustomerRequest;
 import dev.juviscript.techdeck.dto.request.customer.UpdateServiceLocationRequest;
+import dev.juviscript.techdeck.dto.response.CustomerImportResponse;
 import dev.juviscript.techdeck.dto.response.CustomerResponse;
+import dev.juviscript.techdeck.dto.response.PageResponse;
 import dev.juviscript.techdeck.dto.response.ServiceLocationResponse;
 import dev.juviscript.techdeck.mappers.CustomerMapper;
 import dev.juviscript.techdeck.models.Customer;
 import dev.juviscript.techdeck.models.ServiceLocation;
+import dev.juviscript.techdeck.services.CustomerExportService;
+import dev.juviscript.techdeck.services.CustomerExportService.ExportFormat;
+import dev.juviscript.techdeck.services.CustomerImportService;
+import dev.juviscript.techdeck.services.CustomerImportService.ImportFormat;
 import dev.juviscript.techdeck.services.CustomerService;
 import dev.juviscript.techdeck.services.ServiceLocationService;
+import dev.juviscript.techdeck.util.ETags;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -27,6 +47,8 @@ public class CustomerController {
 
     private final CustomerService customerService;
     private final ServiceLocationService serviceLocationService;
+    private final CustomerExportService customerExportService;
+    private final CustomerImportService customerImportService;
     private final CustomerMapper customerMapper;
 
     // ==========================================
@@ -34,27 +56,101 @@ public class CustomerController {
     // ==========================================
 
     /**
-     * GET /api/v1/customers
-     * Get all customers
+     * GET /api/v1/customers?sort={name|createdAt}&direction={asc|desc}&size={n}&cursor={token}
+     * Get a page of customers. Follow nextCursor for keyset paging, or pass page={n} for offset paging.
+     * List view: notes and access notes are omitted; fetch the customer by ID for the full record.
      */
     @GetMapping
-    public ResponseEntity<List<CustomerResponse>> getAllCustomers() {
-        List<CustomerResponse> customers = customerService.getAllCustomers()
-                .stream()
-                .map(customerMapper::toResponse)
-                .toList();
-        return ResponseEntity.ok(customers);
+    public ResponseEntity<PageResponse<CustomerResponse>> getAllCustomers(
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+
+        try {
+            PageResponse<CustomerSummary> customerPage = customerService.getCustomerPage(sort, direction, cursor, page, size);
+
+            // Load the locations for the whole page in one query
+            List<UUID> customerIds = customerPage.getItems().stream().map(CustomerSummary::id).toList();
+            Map<UUID, List<ServiceLocationSummary>> locations = serviceLocationService.getSummariesByCustomerIds(customerIds);
+
+            PageResponse<CustomerResponse> customers = customerPage.map(customer ->
+                    customerMapper.toResponse(customer, locations.getOrDefault(customer.id(), List.of())));
+            return ResponseEntity.ok(customers);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * GET /api/v1/customers/export?format={ndjson|csv}
+     * Stream every customer with their service locations, for bulk consumers such as billing.
+     * Rows are written as they are read, so the response starts immediately and memory stays flat.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCustomers(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = out -> customerExportService.exportCustomers(exportFormat, out);
+        if (exportFormat == ExportFormat.CSV) {
+            return ResponseEntity.ok()
+                    .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"customers.csv\"")
+                    .body(body);
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * POST /api/v1/customers/import?format={ndjson|csv}
+     * Bulk-create customers and their service locations from the request body.
+     * CSV follows the export layout (one row per location). Returns an error for each rejected row.
+     */
+    @PostMapping("/import")
+    public ResponseEntity<CustomerImportResponse> importCustomers(
+            @RequestParam(defaultValue = "ndjson") String format,
+            InputStream body) throws IOException {
+
+        ImportFormat importFormat;
+        try {
+            importFormat = ImportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            return ResponseEntity.ok(customerImportService.importCustomers(importFormat, body));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
      * GET /api/v1/customers/{id}
-     * Get customer by ID
+     * Get customer by ID (returns 304 when If-None-Match matches).
+     * The ETag covers the customer and its embedded service locations.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<CustomerResponse> getCustomerById(@PathVariable UUID id) {
+    public ResponseEntity<CustomerResponse> getCustomerById(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
         return customerService.getCustomerById(id)
-                .map(customerMapper::toResponse)
-                .map(ResponseEntity::ok)
+                .map(customer -> {
+                    String eTag = eTagOf(customer);
+                    if (ETags.matches(ifNoneMatch, eTag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<CustomerResponse>build();
+                    }
+                    return ResponseEntity.ok().eTag(eTag).body(customerMapper.toResponse(customer));
+                })
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -73,35 +169,28 @@ public class CustomerController {
 
     /**
      * PUT /api/v1/customers/{id}
-     * Update an existing customer
+     * Update an existing customer.
+     * Only the fields given are changed, on the current row.
+     * With If-Match, returns 412 unless it matches the current ETag; 409 if another update wins the race.
      */
     @PutMapping("/{id}")
     public ResponseEntity<CustomerResponse> updateCustomer(
             @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateCustomerRequest request) {
 
-        return customerService.getCustomerById(id)
-                .map(existingCustomer -> {
-                    if (request.getFirstName() != null) {
-                        existingCustomer.setFirstName(request.getFirstName());
-                    }
-                    if (request.getLastName() != null) {
-                        existingCustomer.setLastName(request.getLastName());
-                    }
-                    if (request.getEmail() != null) {
-                        existingCustomer.setEmail(request.getEmail());
-                    }
-                    if (request.getPhoneNumber() != null) {
-                        existingCustomer.setPhoneNumber(request.getPhoneNumber());
-                    }
-                    if (request.getNotes() != null) {
-                        existingCustomer.setNotes(request.getNotes());
-                    }
-
-                    Customer updatedCustomer = customerService.updateCustomer(id, existingCustomer);
-                    return ResponseEntity.ok(customerMapper.toResponse(updatedCustomer));
-                })
-                .orElse(ResponseEntity.notFound().build());
+        try {
+            return customerService.updateCustomer(id, request, ETags.expectedVersion(ifMatch))
+                    .map(updated -> ResponseEntity.ok()
+                            .eTag(eTagOf(updated))
+                            .body(customerMapper.toResponse(updated)))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            // Changed by another request between our read and write
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
     }
 
     /**
@@ -165,17 +254,22 @@ public class CustomerController {
                     .body(customerMapper.toResponse(savedLocation));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request made another location primary first
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
     }
 
     /**
      * PUT /api/v1/customers/{customerId}/locations/{locationId}
-     * Update a service location
+     * Update a service location.
+     * With If-Match, returns 412 unless it matches the current ETag; 409 if another update wins the race.
      */
     @PutMapping("/{customerId}/locations/{locationId}")
     public ResponseEntity<ServiceLocationResponse> updateServiceLocation(
             @PathVariable UUID customerId,
             @PathVariable UUID locationId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateServiceLocationRequest request) {
 
         try {
@@ -191,10 +285,15 @@ public class CustomerController {
                 updatedLocation.setPrimary(request.getIsPrimary());
             }
 
-            ServiceLocation savedLocation = serviceLocationService.update(locationId, updatedLocation);
-            return ResponseEntity.ok(customerMapper.toResponse(savedLocation));
+            ServiceLocation savedLocation = serviceLocationService.update(locationId, updatedLocation, ETags.expectedVersion(ifMatch));
+            return ResponseEntity.ok()
+                    .eTag(ETags.of(savedLocation.getVersion()))
+                    .body(customerMapper.toResponse(savedLocation));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
+        } catch (DataIntegrityViolationException | OptimisticLockingFailureException e) {
+            // A concurrent request made another location primary, or changed this one, first
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
     }
 
@@ -214,4 +313,12 @@ public class CustomerController {
             return ResponseEntity.notFound().build();
         }
     }
-}
\ No newline at end of file
+
+    private static String eTagOf(Customer customer) {
+        Map<UUID, Long> locationVersions = new HashMap<>();
+        for (ServiceLocation location : customer.getServiceLocations()) {
+            locationVersions.put(location.getId(), location.getVersion());
+        }
+        return ETags.of(customer.getVersion(), locationVersions);
+    }
+}
@@ -5,10 +5,13 @@ import dev.juviscript.techdeck.dto.request.servicetype.UpdateServiceTypeRequest;
 import dev.juviscript.techdeck.dto.response.ServiceTypeResponse;
 import dev.juviscript.techdeck.mappers.ServiceTypeMapper;
 import dev.juviscript.techdeck.models.ServiceType;
+import dev.juviscript.techdeck.services.ServiceTypeCatalog;
 import dev.juviscript.techdeck.services.ServiceTypeService;
-import dev.juviscript.techdeck.util.StringUtils;
+import dev.juviscript.techdeck.util.ETags;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -27,31 +30,46 @@ public class ServiceTypeController {
     /**
      * GET /api/v1/service-types
      * Get all service types (optionally filter by active only)
+     * Served from the in-memory catalog; returns 304 when If-None-Match matches the current ETag.
      */
     @GetMapping
     public ResponseEntity<List<ServiceTypeResponse>> getAllServiceTypes(
-            @RequestParam(required = false, defaultValue = "false") boolean activeOnly) {
-        
-        List<ServiceType> serviceTypes = activeOnly 
+            @RequestParam(required = false, defaultValue = "false") boolean activeOnly,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        String eTag = serviceTypeService.getServiceTypesETag(activeOnly);
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        List<ServiceType> serviceTypes = activeOnly
                 ? serviceTypeService.getActiveServiceTypes()
                 : serviceTypeService.getAllServiceTypes();
-        
+
         List<ServiceTypeResponse> response = serviceTypes.stream()
                 .map(serviceTypeMapper::toResponse)
                 .toList();
-        
-        return ResponseEntity.ok(response);
+
+        return ResponseEntity.ok().eTag(eTag).body(response);
     }
 
     /**
      * GET /api/v1/service-types/{id}
-     * Get service type by ID
+     * Get service type by ID (returns 304 when If-None-Match matches)
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ServiceTypeResponse> getServiceTypeById(@PathVariable UUID id) {
+    public ResponseEntity<ServiceTypeResponse> getServiceTypeById(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
         return serviceTypeService.getServiceTypeById(id)
-                .map(serviceTypeMapper::toResponse)
-                .map(ResponseEntity::ok)
+                .map(serviceType -> {
+                    String eTag = ServiceTypeCatalog.eTagOf(serviceType);
+                    if (ETags.matches(ifNoneMatch, eTag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<ServiceTypeResponse>build();
+                    }
+                    return ResponseEntity.ok().eTag(eTag).body(serviceTypeMapper.toResponse(serviceType));
+                })
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -73,35 +91,28 @@ public class ServiceTypeController {
 
     /**
      * PUT /api/v1/service-types/{id}
-     * Update an existing service type
+     * Update an existing service type.
+     * Only the fields given are changed, on the current row.
+     * With If-Match, returns 412 unless it matches the current ETag; 409 if another update wins the race.
      */
     @PutMapping("/{id}")
     public ResponseEntity<ServiceTypeResponse> updateServiceType(
             @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateServiceTypeRequest request) {
 
-        return serviceTypeService.getServiceTypeById(id)
-                .map(existingServiceType -> {
-                    if (request.getName() != null) {
-                        existingServiceType.setName(StringUtils.capitalizeWords(request.getName()));
-                    }
-                    if (request.getDescription() != null) {
-                        existingServiceType.setDescription(StringUtils.trim(request.getDescription()));
-                    }
-                    if (request.getBaseRate() != null) {
-                        existingServiceType.setBaseRate(request.getBaseRate());
-                    }
-                    if (request.getBaseDurationInMinutes() != null) {
-                        existingServiceType.setBaseDurationInMinutes(request.getBaseDurationInMinutes());
-                    }
-                    if (request.getIsActive() != null) {
-                        existingServiceType.setActive(request.getIsActive());
-                    }
-
-                    ServiceType updatedServiceType = serviceTypeService.updateServiceType(id, existingServiceType);
-                    return ResponseEntity.ok(serviceTypeMapper.toResponse(updatedServiceType));
-                })
-                .orElse(ResponseEntity.notFound().build());
+        try {
+            return serviceTypeService.updateServiceType(id, request, ETags.expectedVersion(ifMatch))
+                    .map(updated -> ResponseEntity.ok()
+                            .eTag(ServiceTypeCatalog.eTagOf(updated))
+                            .body(serviceTypeMapper.toResponse(updated)))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            // Changed by another request between our read and write
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
     }
 
     /**
@@ -0,0 +1,37 @@
+package dev.juviscript.techdeck.controllers;
+
+import dev.juviscript.techdeck.dto.response.SyncChangesResponse;
+import dev.juviscript.techdeck.services.SyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/v1/sync")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    /**
+     * GET /api/v1/sync?since={datetime}&cursor={cursor}&limit={n}
+     * Get customers, service locations, service types, work orders and time entries changed
+     * after since, plus tombstones for deleted rows. Without since, everything is returned.
+     * Follow nextCursor while hasMore is true, then keep highWaterMark as the next since.
+     */
+    @GetMapping
+    public ResponseEntity<SyncChangesResponse> getChanges(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+
+        try {
+            return ResponseEntity.ok(syncService.getChanges(since, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package dev.juviscript.techdeck.controllers;
+
+import dev.juviscript.techdeck.dto.request.timeentry.ClockInRequest;
+import dev.juviscript.techdeck.dto.request.timeentry.SyncTimeEntriesRequest;
+import dev.juviscript.techdeck.dto.response.ActiveTimerResponse;
+import dev.juviscript.techdeck.dto.response.TimeEntryResponse;
+import dev.juviscript.techdeck.dto.response.TimeEntrySyncResponse;
+import dev.juviscript.techdeck.mappers.TimeEntryMapper;
+import dev.juviscript.techdeck.models.EntryType;
+import dev.juviscript.techdeck.models.TimeEntry;
+import dev.juviscript.techdeck.security.UserDetailsImpl;
+import dev.juviscript.techdeck.services.TimeEntryService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/time-entries")
+@RequiredArgsConstructor
+public class TimeEntryController {
+
+    private final TimeEntryService timeEntryService;
+    private final TimeEntryMapper timeEntryMapper;
+
+    /**
+     * POST /api/v1/time-entries/clock-in
+     * Start a timer for the current technician; a running timer is stopped first.
+     * 409 if another clock-in for the same technician wins a race.
+     */
+    @PostMapping("/clock-in")
+    public ResponseEntity<TimeEntryResponse> clockIn(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @Valid @RequestBody ClockInRequest request) {
+
+        try {
+            TimeEntry entry = timeEntryService.clockIn(
+                    currentUser.getId(), request.getWorkOrderId(), request.getEntryType(), request.getNotes());
+            return ResponseEntity
+                    .status(HttpStatus.CREATED)
+                    .body(timeEntryMapper.toResponse(entry));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (DataIntegrityViolationException | OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    /**
+     * POST /api/v1/time-entries/clock-out
+     * Stop the current technician's timer (409 if not clocked in, or already stopped concurrently)
+     */
+    @PostMapping("/clock-out")
+    public ResponseEntity<TimeEntryResponse> clockOut(@AuthenticationPrincipal UserDetailsImpl currentUser) {
+        try {
+            return ResponseEntity.ok(timeEntryMapper.toResponse(timeEntryService.clockOut(currentUser.getId())));
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    /**
+     * GET /api/v1/time-entries/current
+     * The current technician's running timer (404 if not clocked in)
+     */
+    @GetMapping("/current")
+    public ResponseEntity<ActiveTimerResponse> getCurrentTimer(@AuthenticationPrincipal UserDetailsImpl currentUser) {
+        LocalDateTime now = LocalDateTime.now();
+        return timeEntryService.getActiveTimer(currentUser.getId())
+                .map(timer -> ResponseEntity.ok(timeEntryMapper.toResponse(timer, now)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * GET /api/v1/time-entries/active?entryType={TRAVEL|ON_SITE}
+     * Every running timer, e.g. who is on site right now. Served from memory.
+     */
+    @GetMapping("/active")
+    public ResponseEntity<List<ActiveTimerResponse>> getActiveTimers(@RequestParam(required = false) EntryType entryType) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ActiveTimerResponse> timers = timeEntryService.getActiveTimers(entryType)
+                .stream()
+                .map(timer -> timeEntryMapper.toResponse(timer, now))
+                .toList();
+        return ResponseEntity.ok(timers);
+    }
+
+    /**
+     * POST /api/v1/time-entries/sync
+     * Upload time entries recorded offline by the current technician.
+     * Safe to retry: entries are deduplicated on their client ID.
+     */
+    @PostMapping("/sync")
+    public ResponseEntity<TimeEntrySyncResponse> syncTimeEntries(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @Valid @RequestBody SyncTimeEntriesRequest request) {
+
+        try {
+            return ResponseEntity.ok(timeEntryService.syncTimeEntries(currentUser.getId(), request.getEntries()));
+        } catch (DataIntegrityViolationException e) {
+            // The same entries are being synced concurrently; a retry will report them as duplicates
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+}
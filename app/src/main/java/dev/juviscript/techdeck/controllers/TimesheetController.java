@@ -0,0 +1,64 @@
+package dev.juviscript.techdeck.controllers;
+
+import dev.juviscript.techdeck.dto.projection.TimesheetTotal;
+import dev.juviscript.techdeck.dto.response.TimesheetResponse;
+import dev.juviscript.techdeck.mappers.TimeEntryMapper;
+import dev.juviscript.techdeck.models.Role;
+import dev.juviscript.techdeck.security.UserDetailsImpl;
+import dev.juviscript.techdeck.services.TimesheetService;
+import dev.juviscript.techdeck.services.TimesheetService.TimesheetPeriod;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/timesheets")
+@RequiredArgsConstructor
+public class TimesheetController {
+
+    private final TimesheetService timesheetService;
+    private final TimeEntryMapper timeEntryMapper;
+
+    /**
+     * GET /api/v1/timesheets?from={date}&to={date}&period={day|week}&technicianId={id}
+     * Closed time per technician and entry type, by day or ISO week.
+     * Admins may report on every technician (no technicianId); technicians only see their own.
+     */
+    @GetMapping
+    public ResponseEntity<TimesheetResponse> getTimesheet(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String period,
+            @RequestParam(required = false) UUID technicianId) {
+
+        TimesheetPeriod timesheetPeriod;
+        try {
+            timesheetPeriod = TimesheetPeriod.valueOf(period.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (currentUser.getRole() != Role.ADMIN) {
+            if (technicianId != null && !technicianId.equals(currentUser.getId())) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+            technicianId = currentUser.getId();
+        }
+
+        try {
+            List<TimesheetTotal> totals = timesheetService.getTotals(timesheetPeriod, technicianId, from, to);
+            return ResponseEntity.ok(timeEntryMapper.toResponse(timesheetPeriod, technicianId, from, to, totals));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
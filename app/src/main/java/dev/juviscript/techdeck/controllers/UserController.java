@@ -7,8 +7,11 @@ import dev.juviscript.techdeck.dto.response.UserResponse;
 import dev.juviscript.techdeck.mappers.UserMapper;
 import dev.juviscript.techdeck.models.User;
 import dev.juviscript.techdeck.services.UserService;
+import dev.juviscript.techdeck.util.ETags;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -32,7 +35,7 @@ public class UserController {
      */
     @GetMapping
     public ResponseEntity<List<UserResponse>> getAllUsers() {
-        List<UserResponse> users = userService.getAllUsers()
+        List<UserResponse> users = userService.getAllUserSummaries()
                 .stream()
                 .map(userMapper::toDTO)
                 .toList();
@@ -41,13 +44,21 @@ public class UserController {
 
     /**
      * GET /api/v1/users/{id}
-     * Get user by ID
+     * Get user by ID (returns 304 when If-None-Match matches its version)
      */
     @GetMapping("/{id}")
-    public ResponseEntity<UserResponse> getUserById(@PathVariable UUID id) {
+    public ResponseEntity<UserResponse> getUserById(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
         return userService.getUserById(id)
-                .map(userMapper::toDTO)
-                .map(ResponseEntity::ok)
+                .map(user -> {
+                    String eTag = ETags.of(user.getVersion());
+                    if (ETags.matches(ifNoneMatch, eTag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<UserResponse>build();
+                    }
+                    return ResponseEntity.ok().eTag(eTag).body(userMapper.toDTO(user));
+                })
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -67,36 +78,26 @@ public class UserController {
 
     /**
      * PUT /api/v1/users/{id}
-     * Update an existing user
+     * Update an existing user.
+     * Only the fields given are changed, on the current row.
+     * With If-Match, returns 412 unless it matches the current ETag; 409 if another update wins the race.
      */
     @PutMapping("/{id}")
     public ResponseEntity<UserResponse> updateUser(
             @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateUserRequest request) {
 
-        return userService.getUserById(id)
-                .map(existingUser -> {
-                    // Only update fields that are provided
-                    if (request.getFirstName() != null) {
-                        existingUser.setFirstName(request.getFirstName());
-                    }
-                    if (request.getLastName() != null) {
-                        existingUser.setLastName(request.getLastName());
-                    }
-                    if (request.getPhoneNumber() != null) {
-                        existingUser.setPhoneNumber(request.getPhoneNumber());
-                    }
-                    if (request.getRole() != null) {
-                        existingUser.setRole(request.getRole());
-                    }
-                    if (request.getIsActive() != null) {
-                        existingUser.setActive(request.getIsActive());
-                    }
-
-                    User updatedUser = userService.updateUser(id, existingUser);
-                    return ResponseEntity.ok(userMapper.toDTO(updatedUser));
-                })
-                .orElse(ResponseEntity.notFound().build());
+        try {
+            return userService.updateUser(id, request, ETags.expectedVersion(ifMatch))
+                    .map(updated -> ResponseEntity.ok()
+                            .eTag(ETags.of(updated.getVersion()))
+                            .body(userMapper.toDTO(updated)))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (OptimisticLockingFailureException e) {
+            // Changed by another request between our read and write
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
     }
 
     /**
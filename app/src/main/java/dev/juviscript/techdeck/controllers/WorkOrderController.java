@@ -0,0 +1,237 @@
+package dev.juviscript.techdeck.controllers;
+
+import dev.juviscript.techdeck.dto.request.workorder.CreateWorkOrderRequest;
+import dev.juviscript.techdeck.dto.request.workorder.RescheduleWorkOrderRequest;
+import dev.juviscript.techdeck.dto.request.workorder.WorkOrderServiceLineRequest;
+import dev.juviscript.techdeck.dto.response.AvailabilityResponse;
+import dev.juviscript.techdeck.dto.response.DispatchBoardResponse;
+import dev.juviscript.techdeck.dto.response.RepriceResponse;
+import dev.juviscript.techdeck.dto.response.WorkOrderResponse;
+import dev.juviscript.techdeck.dto.response.WorkOrderTreeResponse;
+import dev.juviscript.techdeck.mappers.WorkOrderMapper;
+import dev.juviscript.techdeck.models.WorkOrder;
+import dev.juviscript.techdeck.services.DispatchService;
+import dev.juviscript.techdeck.services.WorkOrderManagementService;
+import dev.juviscript.techdeck.util.ETags;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/work-orders")
+@RequiredArgsConstructor
+public class WorkOrderController {
+
+    private static final int MAX_FREE_SLOTS = 20;
+
+    private final DispatchService dispatchService;
+    private final WorkOrderManagementService workOrderManagementService;
+    private final WorkOrderMapper workOrderMapper;
+
+    /**
+     * GET /api/v1/work-orders/board?date={yyyy-MM-dd}
+     * Get the dispatch board for a day (defaults to today), grouped by technician
+     */
+    @GetMapping("/board")
+    public ResponseEntity<DispatchBoardResponse> getDispatchBoard(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+
+        LocalDate boardDate = date != null ? date : LocalDate.now();
+        return ResponseEntity.ok(workOrderMapper.toResponse(dispatchService.getDispatchBoard(boardDate)));
+    }
+
+    /**
+     * GET /api/v1/work-orders/{id}
+     * Get work order by ID (returns 304 when If-None-Match matches its version)
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<WorkOrderResponse> getWorkOrderById(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        return workOrderManagementService.getWorkOrderById(id)
+                .map(workOrder -> {
+                    String eTag = ETags.of(workOrder.getVersion());
+                    if (ETags.matches(ifNoneMatch, eTag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<WorkOrderResponse>build();
+                    }
+                    return ResponseEntity.ok().eTag(eTag).body(workOrderMapper.toResponse(workOrder));
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * GET /api/v1/work-orders/{id}/tree
+     * Get the whole job tree the work order belongs to, depth-first from its root, with totals
+     */
+    @GetMapping("/{id}/tree")
+    public ResponseEntity<WorkOrderTreeResponse> getWorkOrderTree(@PathVariable UUID id) {
+        return workOrderManagementService.getWorkOrderTree(id)
+                .map(tree -> ResponseEntity.ok(workOrderMapper.toResponse(tree)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * GET /api/v1/work-orders/{id}/tree/totals
+     * Get only the rollup (time, price, status counts) of the work order's job tree
+     */
+    @GetMapping("/{id}/tree/totals")
+    public ResponseEntity<WorkOrderTreeResponse.Totals> getWorkOrderTreeTotals(@PathVariable UUID id) {
+        return workOrderManagementService.getWorkOrderTree(id)
+                .map(tree -> ResponseEntity.ok(workOrderMapper.toResponse(tree.totals())))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * POST /api/v1/work-orders
+     * Create a new work order (409 if the technician is already booked)
+     */
+    @PostMapping
+    public ResponseEntity<WorkOrderResponse> createWorkOrder(@Valid @RequestBody CreateWorkOrderRequest request) {
+        try {
+            WorkOrder savedWorkOrder = workOrderManagementService.createWorkOrder(request);
+            return ResponseEntity
+                    .status(HttpStatus.CREATED)
+                    .body(workOrderMapper.toResponse(savedWorkOrder));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * PUT /api/v1/work-orders/{id}/schedule
+     * Reschedule or reassign a work order (409 if the technician is already booked,
+     * or if another dispatcher changed the work order at the same time).
+     * With If-Match, returns 412 unless it matches the current ETag.
+     */
+    @PutMapping("/{id}/schedule")
+    public ResponseEntity<WorkOrderResponse> rescheduleWorkOrder(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody RescheduleWorkOrderRequest request) {
+
+        try {
+            WorkOrder updatedWorkOrder = workOrderManagementService.rescheduleWorkOrder(id, request, ETags.expectedVersion(ifMatch));
+            return ResponseEntity.ok()
+                    .eTag(ETags.of(updatedWorkOrder.getVersion()))
+                    .body(workOrderMapper.toResponse(updatedWorkOrder));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    /**
+     * POST /api/v1/work-orders/{id}/cancel
+     * Cancel a work order
+     */
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<WorkOrderResponse> cancelWorkOrder(@PathVariable UUID id) {
+        try {
+            WorkOrder canceledWorkOrder = workOrderManagementService.cancelWorkOrder(id);
+            return ResponseEntity.ok(workOrderMapper.toResponse(canceledWorkOrder));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * POST /api/v1/work-orders/{id}/services
+     * Add a service line (duration and price are recalculated)
+     */
+    @PostMapping("/{id}/services")
+    public ResponseEntity<WorkOrderResponse> addServiceLine(
+            @PathVariable UUID id,
+            @Valid @RequestBody WorkOrderServiceLineRequest request) {
+
+        try {
+            WorkOrder updatedWorkOrder = workOrderManagementService.addServiceLine(id, request);
+            return ResponseEntity.ok(workOrderMapper.toResponse(updatedWorkOrder));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * DELETE /api/v1/work-orders/{id}/services/{lineId}
+     * Remove a service line (duration and price are recalculated)
+     */
+    @DeleteMapping("/{id}/services/{lineId}")
+    public ResponseEntity<WorkOrderResponse> removeServiceLine(@PathVariable UUID id, @PathVariable UUID lineId) {
+        try {
+            WorkOrder updatedWorkOrder = workOrderManagementService.removeServiceLine(id, lineId);
+            return ResponseEntity.ok(workOrderMapper.toResponse(updatedWorkOrder));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * POST /api/v1/work-orders/reprice?serviceTypeId={id}
+     * Re-price open work orders from current rates (all open orders if no service type is given)
+     */
+    @PostMapping("/reprice")
+    public ResponseEntity<RepriceResponse> repriceOpenWorkOrders(@RequestParam(required = false) UUID serviceTypeId) {
+        try {
+            return ResponseEntity.ok(workOrderManagementService.repriceOpenWorkOrders(serviceTypeId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * GET /api/v1/work-orders/availability?technicianId={id}&start={datetime}&durationMinutes={n}
+     * Check if a technician is free for a job (travel buffer included)
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<AvailabilityResponse> checkAvailability(
+            @RequestParam UUID technicianId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam int durationMinutes) {
+
+        if (durationMinutes < 0) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(AvailabilityResponse.builder()
+                .technicianId(technicianId)
+                .durationMinutes(durationMinutes)
+                .requestedStart(start)
+                .free(workOrderManagementService.isTechnicianAvailable(technicianId, start, durationMinutes))
+                .build());
+    }
+
+    /**
+     * GET /api/v1/work-orders/availability/next?technicianId={id}&from={datetime}&durationMinutes={n}&count={n}
+     * Find a technician's next free start times
+     */
+    @GetMapping("/availability/next")
+    public ResponseEntity<AvailabilityResponse> findNextFreeSlots(
+            @RequestParam UUID technicianId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam int durationMinutes,
+            @RequestParam(defaultValue = "5") int count) {
+
+        if (durationMinutes < 0 || count < 1 || count > MAX_FREE_SLOTS) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        LocalDateTime searchFrom = from != null ? from : LocalDateTime.now();
+        return ResponseEntity.ok(AvailabilityResponse.builder()
+                .technicianId(technicianId)
+                .durationMinutes(durationMinutes)
+                .requestedStart(searchFrom)
+                .nextFreeSlots(workOrderManagementService.findNextFreeSlots(technicianId, searchFrom, durationMinutes, count))
+                .build());
+    }
+}
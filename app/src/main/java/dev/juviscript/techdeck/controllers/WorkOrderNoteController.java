@@ -0,0 +1,70 @@
+package dev.juviscript.techdeck.controllers;
+
+import dev.juviscript.techdeck.dto.projection.WorkOrderNoteSummary;
+import dev.juviscript.techdeck.dto.request.workorder.CreateWorkOrderNoteRequest;
+import dev.juviscript.techdeck.dto.response.PageResponse;
+import dev.juviscript.techdeck.dto.response.WorkOrderNoteResponse;
+import dev.juviscript.techdeck.mappers.WorkOrderMapper;
+import dev.juviscript.techdeck.security.UserDetailsImpl;
+import dev.juviscript.techdeck.services.WorkOrderNoteService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/work-orders/{workOrderId}/notes")
+@RequiredArgsConstructor
+public class WorkOrderNoteController {
+
+    private final WorkOrderNoteService workOrderNoteService;
+    private final WorkOrderMapper workOrderMapper;
+
+    /**
+     * GET /api/v1/work-orders/{workOrderId}/notes?direction={desc|asc}&size={n}&cursor={token}&includeInternal={bool}
+     * Get a page of the work order's notes, newest first by default. Follow nextCursor for the next page.
+     * Whether internal notes are included is decided from the caller's role;
+     * includeInternal=false gives the customer-facing view.
+     */
+    @GetMapping
+    public ResponseEntity<PageResponse<WorkOrderNoteResponse>> getNotes(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @PathVariable UUID workOrderId,
+            @RequestParam(required = false) String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "true") boolean includeInternal) {
+
+        try {
+            return workOrderNoteService.getTimeline(workOrderId, currentUser.getRole(), includeInternal, direction, cursor, size)
+                    .map(page -> ResponseEntity.ok(page.map(workOrderMapper::toResponse)))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * POST /api/v1/work-orders/{workOrderId}/notes
+     * Append a note written by the current user (404 if the work order does not exist)
+     */
+    @PostMapping
+    public ResponseEntity<WorkOrderNoteResponse> addNote(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @PathVariable UUID workOrderId,
+            @Valid @RequestBody CreateWorkOrderNoteRequest request) {
+
+        try {
+            WorkOrderNoteSummary note = workOrderNoteService.addNote(workOrderId, currentUser.getId(), request);
+            return ResponseEntity
+                    .status(HttpStatus.CREATED)
+                    .body(workOrderMapper.toResponse(note));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package dev.juviscript.techdeck.dto.projection;
+
+import dev.juviscript.techdeck.models.EntryType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A technician's open time entry (clocked in, not yet clocked out)
+ */
+public record ActiveTimer(
+        UUID timeEntryId,
+        UUID technicianId,
+        UUID workOrderId,
+        EntryType entryType,
+        LocalDateTime startTime
+) {
+}
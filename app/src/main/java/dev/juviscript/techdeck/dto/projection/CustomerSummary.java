@@ -0,0 +1,19 @@
+package dev.juviscript.techdeck.dto.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only customer row for list views (no notes LOB)
+ */
+public record CustomerSummary(
+        UUID id,
+        String firstName,
+        String lastName,
+        String email,
+        String phoneNumber,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long version
+) {
+}
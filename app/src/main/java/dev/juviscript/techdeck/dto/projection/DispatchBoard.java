@@ -0,0 +1,16 @@
+package dev.juviscript.techdeck.dto.projection;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Everything needed to render one day of the dispatch board, loaded in two queries
+ */
+public record DispatchBoard(
+        LocalDate date,
+        List<DispatchBoardRow> rows,
+        Map<UUID, List<ServiceLineSummary>> serviceLinesByWorkOrder
+) {
+}
@@ -0,0 +1,29 @@
+package dev.juviscript.techdeck.dto.projection;
+
+import dev.juviscript.techdeck.models.Status;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One work order on the dispatch board, flattened with its customer, location and technician.
+ * Technician columns are null for unassigned work orders.
+ */
+public record DispatchBoardRow(
+        UUID workOrderId,
+        LocalDateTime scheduledDateTime,
+        Integer estimatedDurationMinutes,
+        Status status,
+        UUID technicianId,
+        String technicianFirstName,
+        String technicianLastName,
+        UUID customerId,
+        String customerFirstName,
+        String customerLastName,
+        String addressLine1,
+        String addressLine2,
+        String city,
+        String state,
+        String zipCode
+) {
+}
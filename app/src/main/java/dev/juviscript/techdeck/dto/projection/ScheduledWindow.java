@@ -0,0 +1,15 @@
+package dev.juviscript.techdeck.dto.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A technician's booked work order, as loaded to rebuild the schedule index
+ */
+public record ScheduledWindow(
+        UUID workOrderId,
+        UUID technicianId,
+        LocalDateTime scheduledDateTime,
+        Integer estimatedDurationMinutes
+) {
+}
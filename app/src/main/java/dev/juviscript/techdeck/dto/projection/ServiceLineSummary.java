@@ -0,0 +1,15 @@
+package dev.juviscript.techdeck.dto.projection;
+
+import java.util.UUID;
+
+/**
+ * One service line of a work order with its service type's name
+ */
+public record ServiceLineSummary(
+        UUID id,
+        UUID workOrderId,
+        UUID serviceTypeId,
+        String serviceTypeName,
+        Integer quantity
+) {
+}
@@ -0,0 +1,22 @@
+package dev.juviscript.techdeck.dto.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only service location row for list views (no access notes LOB)
+ */
+public record ServiceLocationSummary(
+        UUID id,
+        UUID customerId,
+        String addressLine1,
+        String addressLine2,
+        String city,
+        String state,
+        String zipCode,
+        boolean isPrimary,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long version
+) {
+}
@@ -0,0 +1,12 @@
+package dev.juviscript.techdeck.dto.projection;
+
+import java.util.UUID;
+
+/**
+ * Client ID of an already synced time entry and the ID it was stored under
+ */
+public record SyncedTimeEntry(
+        UUID clientId,
+        UUID id
+) {
+}
@@ -0,0 +1,18 @@
+package dev.juviscript.techdeck.dto.projection;
+
+import dev.juviscript.techdeck.models.EntryType;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Closed time of one technician and entry type over a day or a week
+ */
+public record TimesheetTotal(
+        UUID technicianId,
+        LocalDate periodStart,
+        EntryType entryType,
+        Long totalMinutes,
+        Long entryCount
+) {
+}
@@ -0,0 +1,13 @@
+package dev.juviscript.techdeck.dto.projection;
+
+import dev.juviscript.techdeck.models.Role;
+
+/**
+ * What a stateless access token is checked against: whether the user is active, and their current email and role
+ */
+public record UserAccessStatus(
+        boolean isActive,
+        String email,
+        Role role
+) {
+}
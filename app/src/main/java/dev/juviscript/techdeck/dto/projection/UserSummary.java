@@ -0,0 +1,23 @@
+package dev.juviscript.techdeck.dto.projection;
+
+import dev.juviscript.techdeck.models.Role;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only user row for list views (never selects the password hash)
+ */
+public record UserSummary(
+        UUID id,
+        String firstName,
+        String lastName,
+        String email,
+        String phoneNumber,
+        Role role,
+        boolean isActive,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long version
+) {
+}
@@ -0,0 +1,19 @@
+package dev.juviscript.techdeck.dto.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One entry of a work order's notes timeline, with its author's name
+ */
+public record WorkOrderNoteSummary(
+        UUID id,
+        UUID workOrderId,
+        UUID createdById,
+        String createdByFirstName,
+        String createdByLastName,
+        String noteContent,
+        boolean isInternal,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,15 @@
+package dev.juviscript.techdeck.dto.projection;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The whole job tree around a work order, flattened depth-first from the root
+ */
+public record WorkOrderTree(
+        UUID workOrderId,
+        UUID rootWorkOrderId,
+        List<WorkOrderTreeNode> nodes,
+        WorkOrderTreeTotals totals
+) {
+}
@@ -0,0 +1,23 @@
+package dev.juviscript.techdeck.dto.projection;
+
+import dev.juviscript.techdeck.models.Status;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One work order of a job tree, with its depth below the root and the minutes logged against it
+ */
+public record WorkOrderTreeNode(
+        UUID workOrderId,
+        UUID parentWorkOrderId,
+        int depth,
+        Status status,
+        LocalDateTime scheduledDateTime,
+        Integer estimatedDurationMinutes,
+        BigDecimal quotedPrice,
+        UUID technicianId,
+        long loggedMinutes
+) {
+}
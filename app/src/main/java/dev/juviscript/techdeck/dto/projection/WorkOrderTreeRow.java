@@ -0,0 +1,29 @@
+package dev.juviscript.techdeck.dto.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One row of WorkOrderRepository.findTreeRows, bound by column alias
+ */
+public interface WorkOrderTreeRow {
+
+    UUID getId();
+
+    UUID getParentWorkOrderId();
+
+    Integer getDepth();
+
+    String getStatus();
+
+    LocalDateTime getScheduledDateTime();
+
+    Integer getEstimatedDurationMinutes();
+
+    BigDecimal getQuotedPrice();
+
+    UUID getTechnicianId();
+
+    Long getLoggedMinutes();
+}
@@ -0,0 +1,20 @@
+package dev.juviscript.techdeck.dto.projection;
+
+import dev.juviscript.techdeck.models.Status;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Rollup of a job tree. Estimated minutes and quoted price leave out canceled work orders;
+ * logged minutes include them, since that time was actually worked.
+ */
+public record WorkOrderTreeTotals(
+        int workOrderCount,
+        int maxDepth,
+        long estimatedMinutes,
+        long loggedMinutes,
+        BigDecimal quotedPrice,
+        Map<Status, Long> statusCounts
+) {
+}
@@ -0,0 +1,25 @@
+package dev.juviscript.techdeck.dto.request.timeentry;
+
+import dev.juviscript.techdeck.models.EntryType;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClockInRequest {
+
+    @NotNull(message = "Work order is required")
+    private UUID workOrderId;
+
+    @NotNull(message = "Entry type is required")
+    private EntryType entryType;
+
+    private String notes;
+}
@@ -0,0 +1,24 @@
+package dev.juviscript.techdeck.dto.request.timeentry;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncTimeEntriesRequest {
+
+    @NotEmpty(message = "At least one time entry is required")
+    @Size(max = 500, message = "At most 500 time entries per batch")
+    @Valid
+    private List<@NotNull(message = "Time entry is required") TimeEntrySyncItem> entries;
+}
@@ -0,0 +1,35 @@
+package dev.juviscript.techdeck.dto.request.timeentry;
+
+import dev.juviscript.techdeck.models.EntryType;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeEntrySyncItem {
+
+    // Generated on the device; the same entry sent twice is only stored once
+    @NotNull(message = "Client ID is required")
+    private UUID clientId;
+
+    @NotNull(message = "Work order is required")
+    private UUID workOrderId;
+
+    @NotNull(message = "Entry type is required")
+    private EntryType entryType;
+
+    @NotNull(message = "Start time is required")
+    private LocalDateTime startTime;
+
+    private LocalDateTime endTime;
+
+    private String notes;
+}
@@ -0,0 +1,20 @@
+package dev.juviscript.techdeck.dto.request.workorder;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateWorkOrderNoteRequest {
+
+    @NotBlank(message = "Note content is required")
+    private String noteContent;
+
+    // True = visible to internal staff only
+    private boolean isInternal;
+}
@@ -0,0 +1,45 @@
+package dev.juviscript.techdeck.dto.request.workorder;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateWorkOrderRequest {
+
+    @NotNull(message = "Customer is required")
+    private UUID customerId;
+
+    @NotNull(message = "Service location is required")
+    private UUID serviceLocationId;
+
+    // Optional: leave empty to create an unassigned work order
+    private UUID technicianId;
+
+    // Optional: e.g., the site survey this installation follows from
+    private UUID parentWorkOrderId;
+
+    @NotNull(message = "Scheduled date/time is required")
+    private LocalDateTime scheduledDateTime;
+
+    @Min(value = 1, message = "Estimated duration must be at least 1 minute")
+    private Integer estimatedDurationMinutes;
+
+    private String description;
+
+    @Valid
+    @Builder.Default
+    private List<WorkOrderServiceLineRequest> services = new ArrayList<>();
+}
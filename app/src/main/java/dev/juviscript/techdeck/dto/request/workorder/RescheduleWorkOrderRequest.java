@@ -0,0 +1,29 @@
+package dev.juviscript.techdeck.dto.request.workorder;
+
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RescheduleWorkOrderRequest {
+
+    // Only provided fields change
+
+    private UUID technicianId;
+
+    private LocalDateTime scheduledDateTime;
+
+    @Min(value = 1, message = "Estimated duration must be at least 1 minute")
+    private Integer estimatedDurationMinutes;
+
+    // True = remove the current technician assignment
+    private boolean unassign;
+}
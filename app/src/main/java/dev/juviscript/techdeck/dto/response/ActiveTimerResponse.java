@@ -0,0 +1,24 @@
+package dev.juviscript.techdeck.dto.response;
+
+import dev.juviscript.techdeck.models.EntryType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActiveTimerResponse {
+
+    private UUID timeEntryId;
+    private UUID technicianId;
+    private UUID workOrderId;
+    private EntryType entryType;
+    private LocalDateTime startTime;
+    private long elapsedMinutes;
+}
@@ -0,0 +1,27 @@
+package dev.juviscript.techdeck.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityResponse {
+
+    private UUID technicianId;
+    private Integer durationMinutes;
+
+    // Set when checking a single slot
+    private LocalDateTime requestedStart;
+    private Boolean free;
+
+    // Earliest free start times at or after the requested start
+    private List<LocalDateTime> nextFreeSlots;
+}
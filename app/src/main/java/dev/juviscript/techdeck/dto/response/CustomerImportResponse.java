@@ -0,0 +1,36 @@
+package dev.juviscript.techdeck.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerImportResponse {
+
+    private int totalRows;
+    private int imported;
+    private int failed;
+
+    // One entry per rejected row; rows not listed were imported
+    @Builder.Default
+    private List<RowError> errors = new ArrayList<>();
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+
+        // 1-based record number in the uploaded file (NDJSON line, or CSV record with the header as 1)
+        private int row;
+        private String email;
+        private String message;
+    }
+}
@@ -24,4 +24,5 @@ public class CustomerResponse {
     private List<ServiceLocationResponse> serviceLocations;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
\ No newline at end of file
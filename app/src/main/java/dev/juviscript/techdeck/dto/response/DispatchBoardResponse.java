@@ -0,0 +1,22 @@
+package dev.juviscript.techdeck.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DispatchBoardResponse {
+
+    private LocalDate date;
+    private List<TechnicianScheduleResponse> technicians;
+
+    // Work orders scheduled for the day with no technician yet
+    private List<DispatchWorkOrderResponse> unassigned;
+}
@@ -0,0 +1,31 @@
+package dev.juviscript.techdeck.dto.response;
+
+import dev.juviscript.techdeck.models.Status;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DispatchWorkOrderResponse {
+
+    private UUID id;
+    private LocalDateTime scheduledDateTime;
+    private Integer estimatedDurationMinutes;
+    private Status status;
+    private UUID customerId;
+    private String customerName;
+    private String addressLine1;
+    private String addressLine2;
+    private String city;
+    private String state;
+    private String zipCode;
+    private List<ServiceLineResponse> services;
+}
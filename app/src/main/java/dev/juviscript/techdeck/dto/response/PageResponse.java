@@ -0,0 +1,39 @@
+package dev.juviscript.techdeck.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageResponse<T> {
+
+    private List<T> items;
+    private int size;
+    private boolean hasMore;
+
+    // Pass back as ?cursor= to get the next page. Null on the last page.
+    private String nextCursor;
+
+    // Only set for offset paging (?page=)
+    private Integer page;
+
+    /**
+     * Convert the items while keeping the paging metadata
+     */
+    public <R> PageResponse<R> map(Function<? super T, ? extends R> mapper) {
+        return PageResponse.<R>builder()
+                .items(items.stream().<R>map(mapper).toList())
+                .size(size)
+                .hasMore(hasMore)
+                .nextCursor(nextCursor)
+                .page(page)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package dev.juviscript.techdeck.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RepriceResponse {
+
+    // Null when every open work order was re-priced
+    private UUID serviceTypeId;
+
+    private int scanned;
+    private int repriced;
+
+    // Left unchanged because they kept being edited concurrently; re-run to pick them up
+    private int skipped;
+}
@@ -0,0 +1,20 @@
+package dev.juviscript.techdeck.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServiceLineResponse {
+
+    private UUID id;
+    private UUID serviceTypeId;
+    private String name;
+    private Integer quantity;
+}
@@ -15,6 +15,7 @@ import java.util.UUID;
 public class ServiceLocationResponse {
 
     private UUID id;
+    private UUID customerId;
     private String addressLine1;
     private String addressLine2;
     private String city;
@@ -24,4 +25,5 @@ public class ServiceLocationResponse {
     private boolean isPrimary;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
\ No newline at end of file
@@ -23,4 +23,5 @@ public class ServiceTypeResponse {
     private boolean isActive;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
@@ -0,0 +1,55 @@
+package dev.juviscript.techdeck.dto.response;
+
+import dev.juviscript.techdeck.models.SyncEntityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncChangesResponse {
+
+    @Builder.Default
+    private List<CustomerResponse> customers = new ArrayList<>();
+
+    @Builder.Default
+    private List<ServiceLocationResponse> serviceLocations = new ArrayList<>();
+
+    @Builder.Default
+    private List<ServiceTypeResponse> serviceTypes = new ArrayList<>();
+
+    @Builder.Default
+    private List<WorkOrderResponse> workOrders = new ArrayList<>();
+
+    @Builder.Default
+    private List<TimeEntryResponse> timeEntries = new ArrayList<>();
+
+    @Builder.Default
+    private List<Tombstone> deleted = new ArrayList<>();
+
+    // Keep requesting with nextCursor while hasMore is true
+    private boolean hasMore;
+    private String nextCursor;
+
+    // Pass as "since" on the next sync once hasMore is false
+    private LocalDateTime highWaterMark;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Tombstone {
+
+        private SyncEntityType entityType;
+        private UUID entityId;
+        private LocalDateTime deletedAt;
+    }
+}
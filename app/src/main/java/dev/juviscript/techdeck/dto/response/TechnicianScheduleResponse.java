@@ -0,0 +1,21 @@
+package dev.juviscript.techdeck.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TechnicianScheduleResponse {
+
+    private UUID technicianId;
+    private String firstName;
+    private String lastName;
+    private List<DispatchWorkOrderResponse> workOrders;
+}
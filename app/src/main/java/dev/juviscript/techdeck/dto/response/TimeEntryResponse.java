@@ -0,0 +1,30 @@
+package dev.juviscript.techdeck.dto.response;
+
+import dev.juviscript.techdeck.models.EntryType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeEntryResponse {
+
+    private UUID id;
+    private UUID clientId;
+    private UUID workOrderId;
+    private UUID technicianId;
+    private EntryType entryType;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private Integer durationMinutes;
+    private String notes;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long version;
+}
@@ -0,0 +1,44 @@
+package dev.juviscript.techdeck.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeEntrySyncResponse {
+
+    private int created;
+    private int duplicates;
+    private int rejected;
+
+    // One result per submitted entry, in request order
+    private List<Result> results;
+
+    public enum Outcome {
+        CREATED,
+        DUPLICATE,
+        REJECTED
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+
+        private UUID clientId;
+
+        // Server ID of the stored entry (null when rejected)
+        private UUID id;
+
+        private Outcome outcome;
+        private String message;
+    }
+}
@@ -0,0 +1,44 @@
+package dev.juviscript.techdeck.dto.response;
+
+import dev.juviscript.techdeck.models.EntryType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimesheetResponse {
+
+    private String period;
+    private LocalDate from;
+    private LocalDate to;
+
+    // Null when the report covers every technician
+    private UUID technicianId;
+
+    @Builder.Default
+    private List<Row> rows = new ArrayList<>();
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Row {
+
+        private UUID technicianId;
+
+        // The day, or the Monday of the week
+        private LocalDate periodStart;
+        private EntryType entryType;
+        private long totalMinutes;
+        private long entryCount;
+    }
+}
@@ -24,6 +24,7 @@ public class UserResponse {
     private boolean isActive;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     // Note: Password is intentionally excluded - never expose in responses
 }
\ No newline at end of file
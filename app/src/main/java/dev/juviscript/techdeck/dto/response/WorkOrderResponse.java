@@ -0,0 +1,36 @@
+package dev.juviscript.techdeck.dto.response;
+
+import dev.juviscript.techdeck.models.Status;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkOrderResponse {
+
+    private UUID id;
+    private UUID customerId;
+    private UUID serviceLocationId;
+    private UUID technicianId;
+    private UUID parentWorkOrderId;
+    private Status status;
+    private LocalDateTime scheduledDateTime;
+    private Integer estimatedDurationMinutes;
+    private BigDecimal quotedPrice;
+    private String description;
+    private LocalDateTime jobStartTime;
+    private LocalDateTime jobEndTime;
+    private List<ServiceLineResponse> services;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long version;
+}
@@ -0,0 +1,67 @@
+package dev.juviscript.techdeck.dto.response;
+
+import dev.juviscript.techdeck.models.Status;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkOrderTreeResponse {
+
+    // The work order that was asked for, and the root of its tree
+    private UUID workOrderId;
+    private UUID rootWorkOrderId;
+
+    // Depth-first from the root; each node follows its parent
+    @Builder.Default
+    private List<Node> nodes = new ArrayList<>();
+
+    private Totals totals;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Node {
+
+        private UUID id;
+        private UUID parentWorkOrderId;
+        private int depth;
+        private Status status;
+        private LocalDateTime scheduledDateTime;
+        private Integer estimatedDurationMinutes;
+        private BigDecimal quotedPrice;
+        private UUID technicianId;
+        private long loggedMinutes;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Totals {
+
+        private int workOrderCount;
+        private int maxDepth;
+
+        // Canceled work orders are not counted in the estimate or the quote
+        private long estimatedMinutes;
+        private long loggedMinutes;
+        private BigDecimal quotedPrice;
+
+        @Builder.Default
+        private Map<Status, Long> statusCounts = new LinkedHashMap<>();
+    }
+}
@@ -1,5 +1,7 @@
 package dev.juviscript.techdeck.mappers;
 
+import dev.juviscript.techdeck.dto.projection.CustomerSummary;
+import dev.juviscript.techdeck.dto.projection.ServiceLocationSummary;
 import dev.juviscript.techdeck.dto.request.customer.CreateCustomerRequest;
 import dev.juviscript.techdeck.dto.request.customer.CreateServiceLocationRequest;
 import dev.juviscript.techdeck.dto.response.CustomerResponse;
@@ -29,9 +31,16 @@ public class CustomerMapper {
         // Map service locations if provided
         if (request.getServiceLocations() != null && !request.getServiceLocations().isEmpty()) {
             List<ServiceLocation> locations = new ArrayList<>();
+            boolean hasPrimary = false;
             for (CreateServiceLocationRequest locRequest : request.getServiceLocations()) {
                 ServiceLocation location = toEntity(locRequest);
                 location.setCustomer(customer); // Set the back-reference
+
+                // Only one primary per customer (enforced by a unique index); the first one wins
+                if (location.isPrimary()) {
+                    location.setPrimary(!hasPrimary);
+                    hasPrimary = true;
+                }
                 locations.add(location);
             }
             customer.setServiceLocations(locations);
@@ -77,6 +86,25 @@ public class CustomerMapper {
                 .serviceLocations(locationResponses)
                 .createdAt(customer.getCreatedAt())
                 .updatedAt(customer.getUpdatedAt())
+                .version(customer.getVersion())
+                .build();
+    }
+
+    /**
+     * Convert Customer entity to CustomerResponse DTO without its locations
+     * (sync feed, where locations are sent as changes of their own)
+     */
+    public CustomerResponse toChangeResponse(Customer customer) {
+        return CustomerResponse.builder()
+                .id(customer.getId())
+                .firstName(customer.getFirstName())
+                .lastName(customer.getLastName())
+                .email(customer.getEmail())
+                .phoneNumber(customer.getPhoneNumber())
+                .notes(customer.getNotes())
+                .createdAt(customer.getCreatedAt())
+                .updatedAt(customer.getUpdatedAt())
+                .version(customer.getVersion())
                 .build();
     }
 
@@ -86,6 +114,7 @@ public class CustomerMapper {
     public ServiceLocationResponse toResponse(ServiceLocation location) {
         return ServiceLocationResponse.builder()
                 .id(location.getId())
+                .customerId(location.getCustomer() != null ? location.getCustomer().getId() : null)
                 .addressLine1(location.getAddressLine1())
                 .addressLine2(location.getAddressLine2())
                 .city(location.getCity())
@@ -95,6 +124,51 @@ public class CustomerMapper {
                 .isPrimary(location.isPrimary())
                 .createdAt(location.getCreatedAt())
                 .updatedAt(location.getUpdatedAt())
+                .version(location.getVersion())
+                .build();
+    }
+
+    /**
+     * Convert CustomerSummary and its location summaries to CustomerResponse DTO (list view, no notes)
+     */
+    public CustomerResponse toResponse(CustomerSummary customer, List<ServiceLocationSummary> locations) {
+        List<ServiceLocationResponse> locationResponses = new ArrayList<>();
+
+        if (locations != null) {
+            for (ServiceLocationSummary location : locations) {
+                locationResponses.add(toResponse(location));
+            }
+        }
+
+        return CustomerResponse.builder()
+                .id(customer.id())
+                .firstName(customer.firstName())
+                .lastName(customer.lastName())
+                .email(customer.email())
+                .phoneNumber(customer.phoneNumber())
+                .serviceLocations(locationResponses)
+                .createdAt(customer.createdAt())
+                .updatedAt(customer.updatedAt())
+                .version(customer.version())
+                .build();
+    }
+
+    /**
+     * Convert ServiceLocationSummary to ServiceLocationResponse DTO (list view, no access notes)
+     */
+    public ServiceLocationResponse toResponse(ServiceLocationSummary location) {
+        return ServiceLocationResponse.builder()
+                .id(location.id())
+                .customerId(location.customerId())
+                .addressLine1(location.addressLine1())
+                .addressLine2(location.addressLine2())
+                .city(location.city())
+                .state(location.state())
+                .zipCode(location.zipCode())
+                .isPrimary(location.isPrimary())
+                .createdAt(location.createdAt())
+                .updatedAt(location.updatedAt())
+                .version(location.version())
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -35,6 +35,7 @@ public class ServiceTypeMapper {
                 .isActive(serviceType.isActive())
                 .createdAt(serviceType.getCreatedAt())
                 .updatedAt(serviceType.getUpdatedAt())
+                .version(serviceType.getVersion())
                 .build();
     }
 }
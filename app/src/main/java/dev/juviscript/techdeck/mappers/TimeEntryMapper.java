@@ -0,0 +1,80 @@
+package dev.juviscript.techdeck.mappers;
+
+import dev.juviscript.techdeck.dto.projection.ActiveTimer;
+import dev.juviscript.techdeck.dto.projection.TimesheetTotal;
+import dev.juviscript.techdeck.dto.response.ActiveTimerResponse;
+import dev.juviscript.techdeck.dto.response.TimeEntryResponse;
+import dev.juviscript.techdeck.dto.response.TimesheetResponse;
+import dev.juviscript.techdeck.models.TimeEntry;
+import dev.juviscript.techdeck.services.TimesheetService.TimesheetPeriod;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class TimeEntryMapper {
+
+    /**
+     * Convert TimeEntry entity to TimeEntryResponse DTO
+     */
+    public TimeEntryResponse toResponse(TimeEntry timeEntry) {
+        return TimeEntryResponse.builder()
+                .id(timeEntry.getId())
+                .clientId(timeEntry.getClientId())
+                .workOrderId(timeEntry.getWorkOrder().getId())
+                .technicianId(timeEntry.getTechnician().getId())
+                .entryType(timeEntry.getEntryType())
+                .startTime(timeEntry.getStartTime())
+                .endTime(timeEntry.getEndTime())
+                .durationMinutes(timeEntry.getDurationMinutes())
+                .notes(timeEntry.getNotes())
+                .createdAt(timeEntry.getCreatedAt())
+                .updatedAt(timeEntry.getUpdatedAt())
+                .version(timeEntry.getVersion())
+                .build();
+    }
+
+    /**
+     * Convert ActiveTimer to ActiveTimerResponse DTO, with minutes elapsed up to now
+     */
+    public ActiveTimerResponse toResponse(ActiveTimer timer, LocalDateTime now) {
+        return ActiveTimerResponse.builder()
+                .timeEntryId(timer.timeEntryId())
+                .technicianId(timer.technicianId())
+                .workOrderId(timer.workOrderId())
+                .entryType(timer.entryType())
+                .startTime(timer.startTime())
+                .elapsedMinutes(Math.max(0, Duration.between(timer.startTime(), now).toMinutes()))
+                .build();
+    }
+
+    /**
+     * Convert timesheet totals to TimesheetResponse DTO
+     */
+    public TimesheetResponse toResponse(TimesheetPeriod period, UUID technicianId, LocalDate from, LocalDate to,
+                                        List<TimesheetTotal> totals) {
+        List<TimesheetResponse.Row> rows = new ArrayList<>(totals.size());
+        for (TimesheetTotal total : totals) {
+            rows.add(TimesheetResponse.Row.builder()
+                    .technicianId(total.technicianId())
+                    .periodStart(total.periodStart())
+                    .entryType(total.entryType())
+                    .totalMinutes(total.totalMinutes())
+                    .entryCount(total.entryCount())
+                    .build());
+        }
+
+        return TimesheetResponse.builder()
+                .period(period.name())
+                .from(from)
+                .to(to)
+                .technicianId(technicianId)
+                .rows(rows)
+                .build();
+    }
+}
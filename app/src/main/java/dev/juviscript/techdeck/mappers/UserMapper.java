@@ -1,8 +1,10 @@
 package dev.juviscript.techdeck.mappers;
 
+import dev.juviscript.techdeck.dto.projection.UserSummary;
 import dev.juviscript.techdeck.dto.request.user.CreateUserRequest;
 import dev.juviscript.techdeck.dto.response.UserResponse;
 import dev.juviscript.techdeck.models.User;
+import dev.juviscript.techdeck.security.UserDetailsImpl;
 import dev.juviscript.techdeck.util.StringUtils;
 import org.springframework.stereotype.Component;
 
@@ -23,6 +25,43 @@ public class UserMapper {
                 .isActive(user.isActive())
                 .createdAt(user.getCreatedAt())
                 .updatedAt(user.getUpdatedAt())
+                .version(user.getVersion())
+                .build();
+    }
+
+    /**
+     * Convert a principal loaded from the database (not one rebuilt from token claims) to UserResponse
+     */
+    public UserResponse toDTO(UserDetailsImpl user) {
+        return UserResponse.builder()
+                .id(user.getId())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .email(user.getEmail())
+                .phoneNumber(user.getPhoneNumber())
+                .role(user.getRole())
+                .isActive(user.isActive())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .version(user.getVersion())
+                .build();
+    }
+
+    /**
+     * Convert UserSummary projection to UserResponse
+     */
+    public UserResponse toDTO(UserSummary user) {
+        return UserResponse.builder()
+                .id(user.id())
+                .firstName(user.firstName())
+                .lastName(user.lastName())
+                .email(user.email())
+                .phoneNumber(user.phoneNumber())
+                .role(user.role())
+                .isActive(user.isActive())
+                .createdAt(user.createdAt())
+                .updatedAt(user.updatedAt())
+                .version(user.version())
                 .build();
     }
 
@@ -0,0 +1,207 @@
+package dev.juviscript.techdeck.mappers;
+
+import dev.juviscript.techdeck.dto.projection.DispatchBoard;
+import dev.juviscript.techdeck.dto.projection.DispatchBoardRow;
+import dev.juviscript.techdeck.dto.projection.ServiceLineSummary;
+import dev.juviscript.techdeck.dto.projection.WorkOrderNoteSummary;
+import dev.juviscript.techdeck.dto.projection.WorkOrderTree;
+import dev.juviscript.techdeck.dto.projection.WorkOrderTreeNode;
+import dev.juviscript.techdeck.dto.projection.WorkOrderTreeTotals;
+import dev.juviscript.techdeck.dto.response.DispatchBoardResponse;
+import dev.juviscript.techdeck.dto.response.DispatchWorkOrderResponse;
+import dev.juviscript.techdeck.dto.response.ServiceLineResponse;
+import dev.juviscript.techdeck.dto.response.TechnicianScheduleResponse;
+import dev.juviscript.techdeck.dto.response.WorkOrderNoteResponse;
+import dev.juviscript.techdeck.dto.response.WorkOrderResponse;
+import dev.juviscript.techdeck.dto.response.WorkOrderTreeResponse;
+import dev.juviscript.techdeck.models.ServiceType;
+import dev.juviscript.techdeck.models.WorkOrder;
+import dev.juviscript.techdeck.models.WorkOrderService;
+import dev.juviscript.techdeck.services.ServiceTypeCatalog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class WorkOrderMapper {
+
+    private final ServiceTypeCatalog serviceTypeCatalog;
+
+    /**
+     * Convert WorkOrder entity to WorkOrderResponse DTO.
+     * Associations are read by ID only, so lazy proxies are not initialized.
+     */
+    public WorkOrderResponse toResponse(WorkOrder workOrder) {
+        List<ServiceLineResponse> services = new ArrayList<>();
+        for (WorkOrderService line : workOrder.getWorkOrderServices()) {
+            services.add(toResponse(line));
+        }
+
+        return WorkOrderResponse.builder()
+                .id(workOrder.getId())
+                .customerId(workOrder.getCustomer().getId())
+                .serviceLocationId(workOrder.getServiceLocation().getId())
+                .technicianId(workOrder.getAssignedTechnician() != null ? workOrder.getAssignedTechnician().getId() : null)
+                .parentWorkOrderId(workOrder.getParentWorkOrder() != null ? workOrder.getParentWorkOrder().getId() : null)
+                .status(workOrder.getStatus())
+                .scheduledDateTime(workOrder.getScheduledDateTime())
+                .estimatedDurationMinutes(workOrder.getEstimatedDurationMinutes())
+                .quotedPrice(workOrder.getQuotedPrice())
+                .description(workOrder.getDescription())
+                .jobStartTime(workOrder.getJobStartTime())
+                .jobEndTime(workOrder.getJobEndTime())
+                .services(services)
+                .createdAt(workOrder.getCreatedAt())
+                .updatedAt(workOrder.getUpdatedAt())
+                .version(workOrder.getVersion())
+                .build();
+    }
+
+    /**
+     * Convert WorkOrderService entity to ServiceLineResponse DTO (name resolved from the catalog)
+     */
+    public ServiceLineResponse toResponse(WorkOrderService line) {
+        UUID serviceTypeId = line.getServiceType().getId();
+        return ServiceLineResponse.builder()
+                .id(line.getId())
+                .serviceTypeId(serviceTypeId)
+                .name(serviceTypeCatalog.getById(serviceTypeId).map(ServiceType::getName).orElse(null))
+                .quantity(line.getQuantity())
+                .build();
+    }
+
+    /**
+     * Convert DispatchBoard to DispatchBoardResponse, grouped by technician
+     */
+    public DispatchBoardResponse toResponse(DispatchBoard board) {
+        Map<UUID, TechnicianScheduleResponse> technicians = new LinkedHashMap<>();
+        List<DispatchWorkOrderResponse> unassigned = new ArrayList<>();
+
+        // Rows are ordered by scheduled time, so each technician's list stays in time order
+        for (DispatchBoardRow row : board.rows()) {
+            DispatchWorkOrderResponse workOrder = toResponse(
+                    row,
+                    board.serviceLinesByWorkOrder().getOrDefault(row.workOrderId(), List.of())
+            );
+
+            if (row.technicianId() == null) {
+                unassigned.add(workOrder);
+                continue;
+            }
+
+            technicians.computeIfAbsent(row.technicianId(), id -> TechnicianScheduleResponse.builder()
+                            .technicianId(id)
+                            .firstName(row.technicianFirstName())
+                            .lastName(row.technicianLastName())
+                            .workOrders(new ArrayList<>())
+                            .build())
+                    .getWorkOrders()
+                    .add(workOrder);
+        }
+
+        return DispatchBoardResponse.builder()
+                .date(board.date())
+                .technicians(new ArrayList<>(technicians.values()))
+                .unassigned(unassigned)
+                .build();
+    }
+
+    /**
+     * Convert DispatchBoardRow and its service lines to DispatchWorkOrderResponse DTO
+     */
+    public DispatchWorkOrderResponse toResponse(DispatchBoardRow row, List<ServiceLineSummary> serviceLines) {
+        List<ServiceLineResponse> services = new ArrayList<>();
+        for (ServiceLineSummary line : serviceLines) {
+            services.add(toResponse(line));
+        }
+
+        return DispatchWorkOrderResponse.builder()
+                .id(row.workOrderId())
+                .scheduledDateTime(row.scheduledDateTime())
+                .estimatedDurationMinutes(row.estimatedDurationMinutes())
+                .status(row.status())
+                .customerId(row.customerId())
+                .customerName(row.customerFirstName() + " " + row.customerLastName())
+                .addressLine1(row.addressLine1())
+                .addressLine2(row.addressLine2())
+                .city(row.city())
+                .state(row.state())
+                .zipCode(row.zipCode())
+                .services(services)
+                .build();
+    }
+
+    /**
+     * Convert ServiceLineSummary to ServiceLineResponse DTO
+     */
+    public ServiceLineResponse toResponse(ServiceLineSummary line) {
+        return ServiceLineResponse.builder()
+                .id(line.id())
+                .serviceTypeId(line.serviceTypeId())
+                .name(line.serviceTypeName())
+                .quantity(line.quantity())
+                .build();
+    }
+
+    /**
+     * Convert WorkOrderTree to WorkOrderTreeResponse DTO (nodes keep their depth-first order)
+     */
+    public WorkOrderTreeResponse toResponse(WorkOrderTree tree) {
+        List<WorkOrderTreeResponse.Node> nodes = new ArrayList<>(tree.nodes().size());
+        for (WorkOrderTreeNode node : tree.nodes()) {
+            nodes.add(WorkOrderTreeResponse.Node.builder()
+                    .id(node.workOrderId())
+                    .parentWorkOrderId(node.parentWorkOrderId())
+                    .depth(node.depth())
+                    .status(node.status())
+                    .scheduledDateTime(node.scheduledDateTime())
+                    .estimatedDurationMinutes(node.estimatedDurationMinutes())
+                    .quotedPrice(node.quotedPrice())
+                    .technicianId(node.technicianId())
+                    .loggedMinutes(node.loggedMinutes())
+                    .build());
+        }
+
+        return WorkOrderTreeResponse.builder()
+                .workOrderId(tree.workOrderId())
+                .rootWorkOrderId(tree.rootWorkOrderId())
+                .nodes(nodes)
+                .totals(toResponse(tree.totals()))
+                .build();
+    }
+
+    /**
+     * Convert WorkOrderTreeTotals to its response DTO
+     */
+    public WorkOrderTreeResponse.Totals toResponse(WorkOrderTreeTotals totals) {
+        return WorkOrderTreeResponse.Totals.builder()
+                .workOrderCount(totals.workOrderCount())
+                .maxDepth(totals.maxDepth())
+                .estimatedMinutes(totals.estimatedMinutes())
+                .loggedMinutes(totals.loggedMinutes())
+                .quotedPrice(totals.quotedPrice())
+                .statusCounts(new LinkedHashMap<>(totals.statusCounts()))
+                .build();
+    }
+
+    /**
+     * Convert WorkOrderNoteSummary to WorkOrderNoteResponse DTO
+     */
+    public WorkOrderNoteResponse toResponse(WorkOrderNoteSummary note) {
+        return WorkOrderNoteResponse.builder()
+                .id(note.id())
+                .workOrderId(note.workOrderId())
+                .createdById(note.createdById())
+                .createdByName(note.createdByFirstName() + " " + note.createdByLastName())
+                .noteContent(note.noteContent())
+                .isInternal(note.isInternal())
+                .createdAt(note.createdAt())
+                .build();
+    }
+}
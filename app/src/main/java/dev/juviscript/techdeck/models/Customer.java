@@ -16,7 +16,7 @@ import java.util.UUID;
 public class Customer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     private String firstName;
@@ -27,13 +27,17 @@ public class Customer {
 
     private String phoneNumber;
 
-    @Lob
+    @Column(columnDefinition = "text")
     private String notes;
 
     // ONE customer can have MANY service locations.
     @OneToMany(mappedBy = "customer", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ServiceLocation> serviceLocations = new ArrayList<>();
 
+    // Leading part of the customer ETag, which also covers its service locations
+    @Version
+    private Long version;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
@@ -0,0 +1,39 @@
+package dev.juviscript.techdeck.models;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Tombstone for a hard-deleted row, so sync clients can remove their local copy
+ */
+@Entity
+@Table(name = "deleted_records")
+@Data
+@NoArgsConstructor
+public class DeletedRecord {
+
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SyncEntityType entityType;
+
+    @Column(nullable = false)
+    private UUID entityId;
+
+    @CreationTimestamp
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+
+    public DeletedRecord(SyncEntityType entityType, UUID entityId) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+    }
+}
@@ -6,6 +6,9 @@ import lombok.Getter;
 @Getter
 @AllArgsConstructor
 public enum Role {
-    ADMIN,
-    TECHNICIAN
+    ADMIN(true),
+    TECHNICIAN(true);
+
+    // Whether internal (staff-only) work order notes are shown to this role
+    private final boolean internalNotesVisible;
 }
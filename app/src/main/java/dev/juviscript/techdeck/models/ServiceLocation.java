@@ -14,7 +14,7 @@ import java.util.UUID;
 public class ServiceLocation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     // MANY service locations belong to ONE customer
@@ -36,11 +36,15 @@ public class ServiceLocation {
     @Column(nullable = false)
     private String zipCode;
 
-    @Lob
+    @Column(columnDefinition = "text")
     private String accessNotes;
 
     private boolean isPrimary = false;
 
+    // ETag of the location, and part of its customer's ETag
+    @Version
+    private Long version;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
@@ -15,13 +15,13 @@ import java.util.UUID;
 public class ServiceType {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(nullable = false)
     private String name;
 
-    @Lob
+    @Column(columnDefinition = "text")
     private String description;
 
     @Column(nullable = false)
@@ -32,6 +32,10 @@ public class ServiceType {
 
     private boolean isActive = true;
 
+    // ETag of the service type
+    @Version
+    private Long version;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
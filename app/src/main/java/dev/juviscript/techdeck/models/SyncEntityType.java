@@ -0,0 +1,12 @@
+package dev.juviscript.techdeck.models;
+
+/**
+ * Entity types exposed through the delta sync feed
+ */
+public enum SyncEntityType {
+    CUSTOMER,
+    SERVICE_LOCATION,
+    SERVICE_TYPE,
+    WORK_ORDER,
+    TIME_ENTRY
+}
@@ -14,7 +14,7 @@ import java.util.UUID;
 public class TimeEntry {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     // MANY time entries belong to ONE work order.
@@ -40,12 +40,19 @@ public class TimeEntry {
     // Calculated when endTime is set. Stored in minutes.
     private Integer durationMinutes;
 
-    @Lob
+    @Column(columnDefinition = "text")
     private String notes;
 
     // For offline sync tracking.
     private boolean isSynced = true;
 
+    // ID generated on the device for entries recorded offline. Makes sync retries idempotent.
+    @Column(unique = true, updatable = false)
+    private UUID clientId;
+
+    @Version
+    private Long version;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
@@ -0,0 +1,19 @@
+package dev.juviscript.techdeck.models;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generate the annotated @Id as a time-ordered UUIDv7 (see UuidV7).
+ * Used in place of @GeneratedValue(strategy = GenerationType.UUID), whose random v4 values
+ * scatter inserts across the primary key index.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+}
@@ -0,0 +1,58 @@
+package dev.juviscript.techdeck.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Closed time per technician, day and entry type, kept up to date as entries close.
+ * Timesheet and payroll reports read these rows instead of scanning time_entries.
+ * Written only through TimesheetRollupRepository.addClosedTime (an upsert).
+ */
+@Entity
+@Table(name = "timesheet_daily_rollups")
+@IdClass(TimesheetDailyRollup.Key.class)
+@Data
+@NoArgsConstructor
+public class TimesheetDailyRollup {
+
+    @Id
+    private UUID technicianId;
+
+    // Day the entries started on
+    @Id
+    private LocalDate workDate;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private EntryType entryType;
+
+    // Monday of workDate's ISO week, stored so weekly totals are a plain GROUP BY
+    @Column(nullable = false)
+    private LocalDate weekStart;
+
+    @Column(nullable = false)
+    private Long totalMinutes;
+
+    @Column(nullable = false)
+    private Long entryCount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private UUID technicianId;
+        private LocalDate workDate;
+        private EntryType entryType;
+    }
+}
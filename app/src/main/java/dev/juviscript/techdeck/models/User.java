@@ -14,7 +14,7 @@ import java.util.UUID;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(nullable = false)
@@ -38,6 +38,10 @@ public class User {
     @Column(nullable = false)
     private Role role;
 
+    // ETag of the user
+    @Version
+    private Long version;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
@@ -5,6 +5,7 @@ import lombok.Data;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -16,7 +17,7 @@ import java.util.UUID;
 public class WorkOrder {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     // MANY work orders can belong to ONE customer.
@@ -48,6 +49,7 @@ public class WorkOrder {
     private Status status = Status.SCHEDULED;
 
     // ONE work order can have MANY notes.
+    // Unbounded: read and append through WorkOrderNoteService (keyset pages), never through this collection.
     @OneToMany(mappedBy = "workOrder", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<WorkOrderNote> workOrderNotes = new ArrayList<>();
 
@@ -60,13 +62,21 @@ public class WorkOrder {
 
     private Integer estimatedDurationMinutes;
 
-    @Lob
+    // Calculated from service lines
+    @Column(precision = 10, scale = 2)
+    private BigDecimal quotedPrice;
+
+    @Column(columnDefinition = "text")
     private String description;
 
     private LocalDateTime jobStartTime;
 
     private LocalDateTime jobEndTime;
 
+    // ETag of the work order
+    @Version
+    private Long version;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
@@ -13,7 +13,7 @@ import java.util.UUID;
 public class WorkOrderNote {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     // MANY notes belong to ONE work order.
@@ -26,8 +26,7 @@ public class WorkOrderNote {
     @JoinColumn(name = "created_by_id", nullable = false)
     private User createdBy;
 
-    @Lob
-    @Column(nullable = false)
+    @Column(nullable = false, columnDefinition = "text")
     private String noteContent;
 
     // True = Visible to only internal staff. False = Visible to customer as well.
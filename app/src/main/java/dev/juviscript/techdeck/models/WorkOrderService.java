@@ -13,7 +13,7 @@ import java.util.UUID;
 public class WorkOrderService {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     // MANY work order services can belong to ONE work order.
@@ -29,7 +29,7 @@ public class WorkOrderService {
     @Column(nullable = false)
     private Integer quantity = 1;
 
-    @Lob
+    @Column(columnDefinition = "text")
     private String notes;
 
     @CreationTimestamp
@@ -1,16 +1,116 @@
 package dev.juviscript.techdeck.repositories;
 
+import dev.juviscript.techdeck.dto.projection.CustomerSummary;
 import dev.juviscript.techdeck.models.Customer;
-import dev.juviscript.techdeck.models.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, UUID> {
 
     Optional<Customer> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // Bulk import: which of these (lowercase) emails are taken, matched case-insensitively
+    @Query("SELECT LOWER(c.email) FROM Customer c WHERE LOWER(c.email) IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // Load a customer together with its service locations in a single query
+    @EntityGraph(attributePaths = "serviceLocations")
+    Optional<Customer> findWithServiceLocationsById(UUID id);
+
+    // List views select only the summary columns: no notes LOB, no managed entities
+
+    // Offset paging without a count query (createdAt order comes from the Pageable's Sort)
+    Slice<CustomerSummary> findSummariesBy(Pageable pageable);
+
+    // Offset paging by name. Names are nullable (imports, legacy rows), so they sort as '' here
+    // and in the keyset queries below, matching ix_customers_name.
+
+    @Query("SELECT new dev.juviscript.techdeck.dto.projection.CustomerSummary("
+            + "c.id, c.firstName, c.lastName, c.email, c.phoneNumber, c.createdAt, c.updatedAt, c.version) "
+            + "FROM Customer c "
+            + "ORDER BY COALESCE(c.lastName, '') ASC, COALESCE(c.firstName, '') ASC, c.id ASC")
+    Slice<CustomerSummary> findSummariesOrderByNameAsc(Pageable pageable);
+
+    @Query("SELECT new dev.juviscript.techdeck.dto.projection.CustomerSummary("
+            + "c.id, c.firstName, c.lastName, c.email, c.phoneNumber, c.createdAt, c.updatedAt, c.version) "
+            + "FROM Customer c "
+            + "ORDER BY COALESCE(c.lastName, '') DESC, COALESCE(c.firstName, '') DESC, c.id DESC")
+    Slice<CustomerSummary> findSummariesOrderByNameDesc(Pageable pageable);
+
+    // Keyset paging: the Pageable only supplies the limit, ordering is fixed by the query
+
+    @Query("SELECT new dev.juviscript.techdeck.dto.projection.CustomerSummary("
+            + "c.id, c.firstName, c.lastName, c.email, c.phoneNumber, c.createdAt, c.updatedAt, c.version) "
+            + "FROM Customer c WHERE c.createdAt > :createdAt "
+            + "OR (c.createdAt = :createdAt AND c.id > :id) "
+            + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CustomerSummary> findPageByCreatedAtAsc(@Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") UUID id,
+                                                 Pageable pageable);
+
+    @Query("SELECT new dev.juviscript.techdeck.dto.projection.CustomerSummary("
+            + "c.id, c.firstName, c.lastName, c.email, c.phoneNumber, c.createdAt, c.updatedAt, c.version) "
+            + "FROM Customer c WHERE c.createdAt < :createdAt "
+            + "OR (c.createdAt = :createdAt AND c.id < :id) "
+            + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CustomerSummary> findPageByCreatedAtDesc(@Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") UUID id,
+                                                  Pageable pageable);
+
+    @Query("SELECT new dev.juviscript.techdeck.dto.projection.CustomerSummary("
+            + "c.id, c.firstName, c.lastName, c.email, c.phoneNumber, c.createdAt, c.updatedAt, c.version) "
+            + "FROM Customer c WHERE COALESCE(c.lastName, '') > :lastName "
+            + "OR (COALESCE(c.lastName, '') = :lastName AND (COALESCE(c.firstName, '') > :firstName "
+            + "OR (COALESCE(c.firstName, '') = :firstName AND c.id > :id))) "
+            + "ORDER BY COALESCE(c.lastName, '') ASC, COALESCE(c.firstName, '') ASC, c.id ASC")
+    List<CustomerSummary> findPageByNameAsc(@Param("lastName") String lastName,
+                                            @Param("firstName") String firstName,
+                                            @Param("id") UUID id,
+                                            Pageable pageable);
+
+    @Query("SELECT new dev.juviscript.techdeck.dto.projection.CustomerSummary("
+            + "c.id, c.firstName, c.lastName, c.email, c.phoneNumber, c.createdAt, c.updatedAt, c.version) "
+            + "FROM Customer c WHERE COALESCE(c.lastName, '') < :lastName "
+            + "OR (COALESCE(c.lastName, '') = :lastName AND (COALESCE(c.firstName, '') < :firstName "
+            + "OR (COALESCE(c.firstName, '') = :firstName AND c.id < :id))) "
+            + "ORDER BY COALESCE(c.lastName, '') DESC, COALESCE(c.firstName, '') DESC, c.id DESC")
+    List<CustomerSummary> findPageByNameDesc(@Param("lastName") String lastName,
+                                             @Param("firstName") String firstName,
+                                             @Param("id") UUID id,
+                                             Pageable pageable);
+
+    // Delta sync: keyset page of rows changed after (updatedAt, id), up to until
+    @Query("SELECT c FROM Customer c "
+            + "WHERE (c.updatedAt > :afterTime OR (c.updatedAt = :afterTime AND c.id > :afterId)) "
+            + "AND c.updatedAt <= :until "
+            + "ORDER BY c.updatedAt ASC, c.id ASC")
+    List<Customer> findChangedAfter(@Param("afterTime") LocalDateTime afterTime,
+                                    @Param("afterId") UUID afterId,
+                                    @Param("until") LocalDateTime until,
+                                    Pageable pageable);
+
+    // Export: forward-only cursor in id order; rows are fetched from the database 500 at a time
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Customer c ORDER BY c.id ASC")
+    Stream<Customer> streamAllByOrderByIdAsc();
 }
@@ -0,0 +1,36 @@
+package dev.juviscript.techdeck.repositories;
+
+import dev.juviscript.techdeck.models.DeletedRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface DeletedRecordRepository extends JpaRepository<DeletedRecord, UUID> {
+
+    // Keyset page of tombstones after (deletedAt, id), up to until
+    @Query("SELECT d FROM DeletedRecord d "
+            + "WHERE (d.deletedAt > :afterTime OR (d.deletedAt = :afterTime AND d.id > :afterId)) "
+            + "AND d.deletedAt <= :until "
+            + "ORDER BY d.deletedAt ASC, d.id ASC")
+    List<DeletedRecord> findDeletedAfter(@Param("afterTime") LocalDateTime afterTime,
+                                         @Param("afterId") UUID afterId,
+                                         @Param("until") LocalDateTime until,
+                                         Pageable pageable);
+
+    // Sync horizon (PostgreSQL): start of the oldest other transaction in this database that has written
+    // (holds a transaction ID), as epoch milliseconds. Its rows carry updated_at at or after this time and
+    // only become visible on commit. Read-only transactions (e.g. an export) are ignored. Sessions of other
+    // database roles are only visible with pg_read_all_stats.
+    @Query(value = "SELECT CAST(EXTRACT(EPOCH FROM MIN(xact_start)) * 1000 AS BIGINT) FROM pg_stat_activity "
+            + "WHERE datname = current_database() AND backend_xid IS NOT NULL AND pid <> pg_backend_pid()",
+            nativeQuery = true)
+    Optional<Long> findOldestWritingTransactionStart();
+}
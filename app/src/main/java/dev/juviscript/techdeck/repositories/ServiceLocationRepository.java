@@ -1,9 +1,16 @@
 package dev.juviscript.techdeck.repositories;
 
+import dev.juviscript.techdeck.dto.projection.ServiceLocationSummary;
 import dev.juviscript.techdeck.models.ServiceLocation;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,4 +19,41 @@ public interface ServiceLocationRepository extends JpaRepository<ServiceLocation
 
     List<ServiceLocation> findByCustomerId(UUID customerId);
     void deleteByCustomerId(UUID customerId);
-}
\ No newline at end of file
+
+    @Query("SELECT l.id FROM ServiceLocation l WHERE l.customer.id = :customerId")
+    List<UUID> findIdsByCustomerId(@Param("customerId") UUID customerId);
+
+    // Primary switch: one statement each to clear the current primary and set the new one,
+    // however many locations the customer has. Bulk updates skip @UpdateTimestamp and @Version,
+    // so updatedAt (for the sync feed) and version (for ETags) are set here.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ServiceLocation l SET l.isPrimary = false, l.updatedAt = :now, l.version = l.version + 1 "
+            + "WHERE l.customer.id = :customerId AND l.isPrimary = true")
+    int clearPrimary(@Param("customerId") UUID customerId, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ServiceLocation l SET l.isPrimary = true, l.updatedAt = :now, l.version = l.version + 1 WHERE l.id = :locationId")
+    int markPrimary(@Param("locationId") UUID locationId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT new dev.juviscript.techdeck.dto.projection.ServiceLocationSummary("
+            + "l.id, l.customer.id, l.addressLine1, l.addressLine2, l.city, l.state, l.zipCode, "
+            + "l.isPrimary, l.createdAt, l.updatedAt, l.version) "
+            + "FROM ServiceLocation l WHERE l.customer.id IN :customerIds "
+            + "ORDER BY l.isPrimary DESC, l.createdAt ASC")
+    List<ServiceLocationSummary> findSummariesByCustomerIdIn(@Param("customerIds") Collection<UUID> customerIds);
+
+    // Full locations (with access notes) for many customers, in the same order as the summaries
+    @Query("SELECT l FROM ServiceLocation l WHERE l.customer.id IN :customerIds "
+            + "ORDER BY l.isPrimary DESC, l.createdAt ASC")
+    List<ServiceLocation> findByCustomerIdIn(@Param("customerIds") Collection<UUID> customerIds);
+
+    // Delta sync: keyset page of rows changed after (updatedAt, id), up to until
+    @Query("SELECT l FROM ServiceLocation l "
+            + "WHERE (l.updatedAt > :afterTime OR (l.updatedAt = :afterTime AND l.id > :afterId)) "
+            + "AND l.updatedAt <= :until "
+            + "ORDER BY l.updatedAt ASC, l.id ASC")
+    List<ServiceLocation> findChangedAfter(@Param("afterTime") LocalDateTime afterTime,
+                                           @Param("afterId") UUID afterId,
+                                           @Param("until") LocalDateTime until,
+                                           Pageable pageable);
+}
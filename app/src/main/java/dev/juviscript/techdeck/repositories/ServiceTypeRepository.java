@@ -1,9 +1,13 @@
 package dev.juviscript.techdeck.repositories;
 
 import dev.juviscript.techdeck.models.ServiceType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,4 +20,14 @@ public interface ServiceTypeRepository extends JpaRepository<ServiceType, UUID>
     boolean existsByName(String name);
 
     List<ServiceType> findByIsActiveTrue();
+
+    // Delta sync: keyset page of rows changed after (updatedAt, id), up to until
+    @Query("SELECT st FROM ServiceType st "
+            + "WHERE (st.updatedAt > :afterTime OR (st.updatedAt = :afterTime AND st.id > :afterId)) "
+            + "AND st.updatedAt <= :until "
+            + "ORDER BY st.updatedAt ASC, st.id ASC")
+    List<ServiceType> findChangedAfter(@Param("afterTime") LocalDateTime afterTime,
+                                       @Param("afterId") UUID afterId,
+                                       @Param("until") LocalDateTime until,
+                                       Pageable pageable);
 }
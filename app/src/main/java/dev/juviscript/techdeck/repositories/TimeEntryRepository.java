@@ -0,0 +1,46 @@
+package dev.juviscript.techdeck.repositories;
+
+import dev.juviscript.techdeck.dto.projection.ActiveTimer;
+import dev.juviscript.techdeck.dto.projection.SyncedTimeEntry;
+import dev.juviscript.techdeck.models.TimeEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface TimeEntryRepository extends JpaRepository<TimeEntry, UUID> {
+
+    // Which of a batch's client IDs are already stored (one statement per batch)
+    @Query("SELECT new dev.juviscript.techdeck.dto.projection.SyncedTimeEntry(t.clientId, t.id) "
+            + "FROM TimeEntry t "
+            + "WHERE t.clientId IN :clientIds")
+    List<SyncedTimeEntry> findSyncedByClientIdIn(@Param("clientIds") Collection<UUID> clientIds);
+
+    // The technician's open entry; at most one, enforced by ux_time_entries_open
+    @Query("SELECT t FROM TimeEntry t WHERE t.technician.id = :technicianId AND t.endTime IS NULL")
+    Optional<TimeEntry> findOpenByTechnicianId(@Param("technicianId") UUID technicianId);
+
+    // All open entries, to rebuild the active timer registry
+    @Query("SELECT new dev.juviscript.techdeck.dto.projection.ActiveTimer("
+            + "t.id, t.technician.id, t.workOrder.id, t.entryType, t.startTime) "
+            + "FROM TimeEntry t WHERE t.endTime IS NULL")
+    List<ActiveTimer> findActiveTimers();
+
+    // Delta sync: keyset page of rows changed after (updatedAt, id), up to until
+    @Query("SELECT t FROM TimeEntry t "
+            + "WHERE (t.updatedAt > :afterTime OR (t.updatedAt = :afterTime AND t.id > :afterId)) "
+            + "AND t.updatedAt <= :until "
+            + "ORDER BY t.updatedAt ASC, t.id ASC")
+    List<TimeEntry> findChangedAfter(@Param("afterTime") LocalDateTime afterTime,
+                                     @Param("afterId") UUID afterId,
+                                     @Param("until") LocalDateTime until,
+                                     Pageable pageable);
+}
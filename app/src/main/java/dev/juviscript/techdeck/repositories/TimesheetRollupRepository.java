@@ -0,0 +1,73 @@
+package dev.juviscript.techdeck.repositories;
+
+import dev.juviscript.techdeck.dto.projection.TimesheetTotal;
+import dev.juviscript.techdeck.models.TimesheetDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TimesheetRollupRepository extends JpaRepository<TimesheetDailyRollup, TimesheetDailyRollup.Key> {
+
+    // Add closed time to a day's row, creating it if needed. A single atomic statement,
+    // so concurrent syncs for the same technician and day both count.
+    @Modifying
+    @Query(value = "INSERT INTO timesheet_daily_rollups "
+            + "(technician_id, work_date, entry_type, week_start, total_minutes, entry_count, updated_at) "
+            + "VALUES (:technicianId, :workDate, :entryType, :weekStart, :minutes, :entries, NOW()) "
+            + "ON CONFLICT (technician_id, work_date, entry_type) DO UPDATE SET "
+            + "total_minutes = timesheet_daily_rollups.total_minutes + EXCLUDED.total_minutes, "
+            + "entry_count = timesheet_daily_rollups.entry_count + EXCLUDED.entry_count, "
+            + "updated_at = NOW()",
+            nativeQuery = true)
+    int addClosedTime(@Param("technicianId") UUID technicianId,
+                      @Param("workDate") LocalDate workDate,
+                      @Param("entryType") String entryType,
+                      @Param("weekStart") LocalDate weekStart,
+                      @Param("minutes") long minutes,
+                      @Param("entries") long entries);
+
+    // Daily totals (one rollup row per group; SUM keeps the types the same as the weekly queries)
+
+    @Query("SELECT new dev.juviscript.techdeck.dto.projection.TimesheetTotal("
+            + "r.technicianId, r.workDate, r.entryType, SUM(r.totalMinutes), SUM(r.entryCount)) "
+            + "FROM TimesheetDailyRollup r WHERE r.workDate BETWEEN :from AND :to "
+            + "GROUP BY r.technicianId, r.workDate, r.entryType "
+            + "ORDER BY r.workDate, r.technicianId, r.entryType")
+    List<TimesheetTotal> findDailyTotals(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT new dev.juviscript.techdeck.dto.projection.TimesheetTotal("
+            + "r.technicianId, r.workDate, r.entryType, SUM(r.totalMinutes), SUM(r.entryCount)) "
+            + "FROM TimesheetDailyRollup r WHERE r.technicianId = :technicianId "
+            + "AND r.workDate BETWEEN :from AND :to "
+            + "GROUP BY r.technicianId, r.workDate, r.entryType "
+            + "ORDER BY r.workDate, r.entryType")
+    List<TimesheetTotal> findDailyTotals(@Param("technicianId") UUID technicianId,
+                                         @Param("from") LocalDate from,
+                                         @Param("to") LocalDate to);
+
+    // Weekly totals: from and to are week starts (Mondays)
+
+    @Query("SELECT new dev.juviscript.techdeck.dto.projection.TimesheetTotal("
+            + "r.technicianId, r.weekStart, r.entryType, SUM(r.totalMinutes), SUM(r.entryCount)) "
+            + "FROM TimesheetDailyRollup r WHERE r.weekStart BETWEEN :from AND :to "
+            + "GROUP BY r.technicianId, r.weekStart, r.entryType "
+            + "ORDER BY r.weekStart, r.technicianId, r.entryType")
+    List<TimesheetTotal> findWeeklyTotals(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT new dev.juviscript.techdeck.dto.projection.TimesheetTotal("
+            + "r.technicianId, r.weekStart, r.entryType, SUM(r.totalMinutes), SUM(r.entryCount)) "
+            + "FROM TimesheetDailyRollup r WHERE r.technicianId = :technicianId "
+            + "AND r.weekStart BETWEEN :from AND :to "
+            + "GROUP BY r.technicianId, r.weekStart, r.entryType "
+            + "ORDER BY r.weekStart, r.entryType")
+    List<TimesheetTotal> findWeeklyTotals(@Param("technicianId") UUID technicianId,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to);
+}
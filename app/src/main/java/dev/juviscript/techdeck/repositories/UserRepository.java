@@ -1,9 +1,14 @@
 package dev.juviscript.techdeck.repositories;
 
+import dev.juviscript.techdeck.dto.projection.UserAccessStatus;
+import dev.juviscript.techdeck.dto.projection.UserSummary;
 import dev.juviscript.techdeck.models.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,4 +18,11 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    // List view: summary columns only, password hash never selected
+    List<UserSummary> findSummariesBy();
+
+    @Query("SELECT new dev.juviscript.techdeck.dto.projection.UserAccessStatus(u.isActive, u.email, u.role) "
+            + "FROM User u WHERE u.id = :id")
+    Optional<UserAccessStatus> findAccessStatusById(@Param("id") UUID id);
+}
@@ -0,0 +1,59 @@
+package dev.juviscript.techdeck.repositories;
+
+import dev.juviscript.techdeck.dto.projection.WorkOrderNoteSummary;
+import dev.juviscript.techdeck.models.WorkOrderNote;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Notes timeline of a work order, read in keyset pages on (createdAt, id).
+ * Internal notes are returned only when includeInternal is true; the service decides it from the caller's role.
+ */
+@Repository
+public interface WorkOrderNoteRepository extends JpaRepository<WorkOrderNote, UUID> {
+
+    // First page: the Pageable supplies the limit and the (createdAt, id) sort
+    @Query("SELECT new dev.juviscript.techdeck.dto.projection.WorkOrderNoteSummary("
+            + "n.id, n.workOrder.id, u.id, u.firstName, u.lastName, n.noteContent, n.isInternal, n.createdAt) "
+            + "FROM WorkOrderNote n JOIN n.createdBy u "
+            + "WHERE n.workOrder.id = :workOrderId "
+            + "AND (:includeInternal = true OR n.isInternal = false)")
+    List<WorkOrderNoteSummary> findTimeline(@Param("workOrderId") UUID workOrderId,
+                                            @Param("includeInternal") boolean includeInternal,
+                                            Pageable pageable);
+
+    // Keyset paging: the Pageable only supplies the limit, ordering is fixed by the query
+
+    @Query("SELECT new dev.juviscript.techdeck.dto.projection.WorkOrderNoteSummary("
+            + "n.id, n.workOrder.id, u.id, u.firstName, u.lastName, n.noteContent, n.isInternal, n.createdAt) "
+            + "FROM WorkOrderNote n JOIN n.createdBy u "
+            + "WHERE n.workOrder.id = :workOrderId "
+            + "AND (n.createdAt > :createdAt OR (n.createdAt = :createdAt AND n.id > :id)) "
+            + "AND (:includeInternal = true OR n.isInternal = false) "
+            + "ORDER BY n.createdAt ASC, n.id ASC")
+    List<WorkOrderNoteSummary> findTimelineAfterAsc(@Param("workOrderId") UUID workOrderId,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") UUID id,
+                                                    @Param("includeInternal") boolean includeInternal,
+                                                    Pageable pageable);
+
+    @Query("SELECT new dev.juviscript.techdeck.dto.projection.WorkOrderNoteSummary("
+            + "n.id, n.workOrder.id, u.id, u.firstName, u.lastName, n.noteContent, n.isInternal, n.createdAt) "
+            + "FROM WorkOrderNote n JOIN n.createdBy u "
+            + "WHERE n.workOrder.id = :workOrderId "
+            + "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) "
+            + "AND (:includeInternal = true OR n.isInternal = false) "
+            + "ORDER BY n.createdAt DESC, n.id DESC")
+    List<WorkOrderNoteSummary> findTimelineAfterDesc(@Param("workOrderId") UUID workOrderId,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("id") UUID id,
+                                                     @Param("includeInternal") boolean includeInternal,
+                                                     Pageable pageable);
+}
@@ -0,0 +1,128 @@
+package dev.juviscript.techdeck.repositories;
+
+import dev.juviscript.techdeck.dto.projection.DispatchBoardRow;
+import dev.juviscript.techdeck.dto.projection.ScheduledWindow;
+import dev.juviscript.techdeck.dto.projection.WorkOrderTreeRow;
+import dev.juviscript.techdeck.models.Status;
+import dev.juviscript.techdeck.models.WorkOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface WorkOrderRepository extends JpaRepository<WorkOrder, UUID> {
+
+    @EntityGraph(attributePaths = "workOrderServices")
+    Optional<WorkOrder> findWithServicesById(UUID id);
+
+    /*
+     * The whole job tree around a work order in one statement: walk up the parent links to the
+     * root, then down through every child. Rows come back depth-first (ordered by the path of ids
+     * from the root); columns are aliased to the WorkOrderTreeRow getters. The path arrays
+     * also stop the walk if bad data ever links a work order back to one of its own ancestors.
+     */
+    @Query(value = """
+            WITH RECURSIVE ancestors (id, parent_id, hops, path) AS (
+                SELECT w.id, w.parent_work_order_id, 0, ARRAY[w.id]
+                FROM work_orders w
+                WHERE w.id = :id
+                UNION ALL
+                SELECT p.id, p.parent_work_order_id, a.hops + 1, a.path || p.id
+                FROM ancestors a
+                JOIN work_orders p ON p.id = a.parent_id
+                WHERE a.hops < :maxDepth AND p.id <> ALL (a.path)
+            ),
+            root AS (
+                SELECT id FROM ancestors ORDER BY hops DESC LIMIT 1
+            ),
+            tree (id, depth, path) AS (
+                SELECT r.id, 0, ARRAY[r.id]
+                FROM root r
+                UNION ALL
+                SELECT c.id, t.depth + 1, t.path || c.id
+                FROM tree t
+                JOIN work_orders c ON c.parent_work_order_id = t.id
+                WHERE t.depth < :maxDepth AND c.id <> ALL (t.path)
+            )
+            SELECT w.id AS "id",
+                   w.parent_work_order_id AS "parentWorkOrderId",
+                   t.depth AS "depth",
+                   w.status AS "status",
+                   w.scheduled_date_time AS "scheduledDateTime",
+                   w.estimated_duration_minutes AS "estimatedDurationMinutes",
+                   w.quoted_price AS "quotedPrice",
+                   w.technician_id AS "technicianId",
+                   COALESCE(l.logged_minutes, 0) AS "loggedMinutes"
+            FROM tree t
+            JOIN work_orders w ON w.id = t.id
+            LEFT JOIN (
+                SELECT e.work_order_id, SUM(e.duration_minutes) AS logged_minutes
+                FROM time_entries e
+                WHERE e.work_order_id IN (SELECT id FROM tree)
+                GROUP BY e.work_order_id
+            ) l ON l.work_order_id = t.id
+            ORDER BY t.path
+            """,
+            nativeQuery = true)
+    List<WorkOrderTreeRow> findTreeRows(@Param("id") UUID id, @Param("maxDepth") int maxDepth);
+
+    // Whole dispatch board for a time window in one statement (no lazy @ManyToOne loads)
+    @Query("SELECT new dev.juviscript.techdeck.dto.projection.DispatchBoardRow("
+            + "w.id, w.scheduledDateTime, w.estimatedDurationMinutes, w.status, "
+            + "t.id, t.firstName, t.lastName, "
+            + "c.id, c.firstName, c.lastName, "
+            + "l.addressLine1, l.addressLine2, l.city, l.state, l.zipCode) "
+            + "FROM WorkOrder w "
+            + "JOIN w.customer c "
+            + "JOIN w.serviceLocation l "
+            + "LEFT JOIN w.assignedTechnician t "
+            + "WHERE w.scheduledDateTime >= :from AND w.scheduledDateTime < :to "
+            + "ORDER BY w.scheduledDateTime ASC, w.id ASC")
+    List<DispatchBoardRow> findDispatchBoard(@Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to);
+
+    // Assigned, non-excluded work orders from a point in time, to rebuild the schedule index
+    @Query("SELECT new dev.juviscript.techdeck.dto.projection.ScheduledWindow("
+            + "w.id, w.assignedTechnician.id, w.scheduledDateTime, w.estimatedDurationMinutes) "
+            + "FROM WorkOrder w "
+            + "WHERE w.assignedTechnician IS NOT NULL "
+            + "AND w.status <> :excluded "
+            + "AND w.scheduledDateTime >= :from")
+    List<ScheduledWindow> findScheduledWindows(@Param("from") LocalDateTime from,
+                                               @Param("excluded") Status excluded);
+
+    // Which of the given IDs exist, without loading the work orders
+    @Query("SELECT w.id FROM WorkOrder w WHERE w.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    // IDs of work orders not in the given statuses, for batch re-pricing
+    @Query("SELECT w.id FROM WorkOrder w WHERE w.status NOT IN :excluded")
+    List<UUID> findIdsByStatusNotIn(@Param("excluded") Collection<Status> excluded);
+
+    // Same, limited to work orders with at least one line of the given service type
+    @Query("SELECT w.id FROM WorkOrder w "
+            + "WHERE w.status NOT IN :excluded "
+            + "AND EXISTS (SELECT 1 FROM WorkOrderService ws "
+            + "WHERE ws.workOrder = w AND ws.serviceType.id = :serviceTypeId)")
+    List<UUID> findIdsByStatusNotInAndServiceTypeId(@Param("excluded") Collection<Status> excluded,
+                                                    @Param("serviceTypeId") UUID serviceTypeId);
+
+    // Delta sync: keyset page of rows changed after (updatedAt, id), up to until
+    @Query("SELECT w FROM WorkOrder w "
+            + "WHERE (w.updatedAt > :afterTime OR (w.updatedAt = :afterTime AND w.id > :afterId)) "
+            + "AND w.updatedAt <= :until "
+            + "ORDER BY w.updatedAt ASC, w.id ASC")
+    List<WorkOrder> findChangedAfter(@Param("afterTime") LocalDateTime afterTime,
+                                     @Param("afterId") UUID afterId,
+                                     @Param("until") LocalDateTime until,
+                                     Pageable pageable);
+}
@@ -0,0 +1,25 @@
+package dev.juviscript.techdeck.repositories;
+
+import dev.juviscript.techdeck.dto.projection.ServiceLineSummary;
+import dev.juviscript.techdeck.models.WorkOrderService;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface WorkOrderServiceRepository extends JpaRepository<WorkOrderService, UUID> {
+
+    // Service lines for many work orders at once, joined to the (small) service type table
+    @Query("SELECT new dev.juviscript.techdeck.dto.projection.ServiceLineSummary("
+            + "ws.id, ws.workOrder.id, st.id, st.name, ws.quantity) "
+            + "FROM WorkOrderService ws "
+            + "JOIN ws.serviceType st "
+            + "WHERE ws.workOrder.id IN :workOrderIds "
+            + "ORDER BY ws.createdAt ASC")
+    List<ServiceLineSummary> findLinesByWorkOrderIdIn(@Param("workOrderIds") Collection<UUID> workOrderIds);
+}
@@ -1,10 +1,12 @@
 package dev.juviscript.techdeck.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -22,6 +24,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationService tokenRevocationService;
+
+    // When enabled, the principal is rebuilt from token claims instead of the database
+    @Value("${jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
 
     @Override
     protected void doFilterInternal(
@@ -43,17 +50,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         final String jwt = authHeader.substring(7);
 
         try {
-            // Extract username from token
-            final String userEmail = jwtService.extractUsername(jwt);
+            // Verify signature and expiration once, then reuse the claims
+            final Claims claims = jwtService.parseClaims(jwt);
+            final String userEmail = claims.getSubject();
 
             // If we have a username and no authentication is set yet
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-                // Load user details from database
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+                // Rebuild user details from claims, or load them from the database
+                UserDetails userDetails = loadUserDetails(claims, userEmail);
 
                 // Validate token
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (userDetails != null && jwtService.isTokenValid(claims, userDetails)) {
 
                     // Create authentication token
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
@@ -77,4 +85,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    /**
+     * Resolve the principal for a verified token.
+     * Returns null if the user has been deactivated, or their email or role changed, since the token was issued.
+     */
+    private UserDetails loadUserDetails(Claims claims, String userEmail) {
+        if (statelessPrincipal && claims.get(JwtService.CLAIM_USER_ID) != null) {
+            UserDetailsImpl userDetails = UserDetailsImpl.fromClaims(claims);
+            if (!userDetails.isEnabled() || tokenRevocationService.isRevoked(userDetails.getId(), userDetails.getUsername(), userDetails.getRole())) {
+                return null;
+            }
+            return userDetails;
+        }
+
+        // Load user details from database
+        return this.userDetailsService.loadUserByUsername(userEmail);
+    }
+}
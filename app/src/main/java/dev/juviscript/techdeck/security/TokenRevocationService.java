@@ -0,0 +1,80 @@
+package dev.juviscript.techdeck.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.juviscript.techdeck.dto.projection.UserAccessStatus;
+import dev.juviscript.techdeck.models.Role;
+import dev.juviscript.techdeck.repositories.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Short-TTL check of whether a user is still allowed to use their access tokens.
+ * Used by the stateless principal mode so a deactivated or re-roled user is locked out
+ * without a database lookup on every request.
+ */
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    // Unknown users are treated as deactivated
+    private static final UserAccessStatus NO_ACCESS = new UserAccessStatus(false, null, null);
+
+    private final UserRepository userRepository;
+
+    @Value("${jwt.revocation-check-ttl:30000}")
+    private long revocationCheckTtl;
+
+    @Value("${user-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    private Cache<UUID, UserAccessStatus> statusCache;
+
+    @PostConstruct
+    void init() {
+        this.statusCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(revocationCheckTtl))
+                .build();
+    }
+
+    /**
+     * Check if tokens issued to this user with this email and role should be rejected:
+     * the user is deactivated, or their email or role has changed since the token was issued.
+     * The status is loaded atomically, so an eviction racing with the load is never lost.
+     * Not transactional: a cache hit never touches the connection pool, and a miss runs the
+     * repository query in its own read-only transaction.
+     */
+    public boolean isRevoked(UUID userId, String tokenEmail, Role tokenRole) {
+        UserAccessStatus status = statusCache.get(userId,
+                id -> userRepository.findAccessStatusById(id).orElse(NO_ACCESS));
+        return !status.isActive() || status.role() != tokenRole || !status.email().equals(tokenEmail);
+    }
+
+    /**
+     * Forget the cached status so the next request re-checks the database.
+     * Inside a transaction this happens after commit, so a request in between cannot re-cache the old status.
+     */
+    public void evict(UUID userId) {
+        if (userId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            statusCache.invalidate(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                statusCache.invalidate(userId);
+            }
+        });
+    }
+}
@@ -1,12 +1,15 @@
 package dev.juviscript.techdeck.security;
 
+import dev.juviscript.techdeck.models.Role;
 import dev.juviscript.techdeck.models.User;
+import io.jsonwebtoken.Claims;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
@@ -20,7 +23,12 @@ public class UserDetailsImpl implements UserDetails {
     private String password;
     private String firstName;
     private String lastName;
+    private String phoneNumber;
     private boolean isActive;
+    private Role role;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long version;
     private Collection<? extends GrantedAuthority> authorities;
 
     /**
@@ -37,7 +45,37 @@ public class UserDetailsImpl implements UserDetails {
                 user.getPassword(),
                 user.getFirstName(),
                 user.getLastName(),
+                user.getPhoneNumber(),
                 user.isActive(),
+                user.getRole(),
+                user.getCreatedAt(),
+                user.getUpdatedAt(),
+                user.getVersion(),
+                authorities
+        );
+    }
+
+    /**
+     * Rebuild UserDetailsImpl from signed access token claims (no password, profile or timestamps)
+     */
+    public static UserDetailsImpl fromClaims(Claims claims) {
+        Role role = Role.valueOf(claims.get(JwtService.CLAIM_ROLE, String.class));
+        List<GrantedAuthority> authorities = List.of(
+                new SimpleGrantedAuthority("ROLE_" + role.name())
+        );
+
+        return new UserDetailsImpl(
+                UUID.fromString(claims.get(JwtService.CLAIM_USER_ID, String.class)),
+                claims.getSubject(),
+                null,
+                null,
+                null,
+                null,
+                Boolean.TRUE.equals(claims.get(JwtService.CLAIM_ACTIVE, Boolean.class)),
+                role,
+                null,
+                null,
+                null,
                 authorities
         );
     }
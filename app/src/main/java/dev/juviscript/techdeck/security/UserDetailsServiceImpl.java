@@ -1,30 +1,88 @@
 package dev.juviscript.techdeck.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import dev.juviscript.techdeck.models.User;
 import dev.juviscript.techdeck.repositories.UserRepository;
 import dev.juviscript.techdeck.util.StringUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
 
 @Service
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${user-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${user-cache.ttl:300000}")
+    private long ttl;
+
+    // Keyed by normalized email. Evicted by UserService after every committed user write.
+    private Cache<String, UserDetailsImpl> userDetailsCache;
 
+    /**
+     * Build the bounded cache and register its hit/miss metrics
+     */
+    @PostConstruct
+    void init() {
+        this.userDetailsCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userDetailsCache, "userDetails");
+    }
+
+    /**
+     * Not transactional: a cache hit never takes a pooled connection. On a miss only the
+     * loader touches the database, and findByEmail runs in its own read-only transaction.
+     */
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         // Normalize email for case-insensitive lookup
         String normalizedEmail = StringUtils.normalizeEmail(email);
 
-        User user = userRepository.findByEmail(normalizedEmail)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + normalizedEmail));
+        // Loaded atomically: an eviction that lands during the load removes the loaded value too
+        return userDetailsCache.get(normalizedEmail, key -> {
+            User user = userRepository.findByEmail(key)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + key));
+            return UserDetailsImpl.build(user);
+        });
+    }
 
-        return UserDetailsImpl.build(user);
+    /**
+     * Remove a cached principal so the next lookup hits the database.
+     * Inside a transaction this happens after commit, so a request in between cannot re-cache the old principal.
+     */
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        String normalizedEmail = StringUtils.normalizeEmail(email);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userDetailsCache.invalidate(normalizedEmail);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userDetailsCache.invalidate(normalizedEmail);
+            }
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,119 @@
+package dev.juviscript.techdeck.services;
+
+import dev.juviscript.techdeck.dto.projection.ActiveTimer;
+import dev.juviscript.techdeck.repositories.TimeEntryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory map of running timers, one per technician (the open time entry).
+ * Reads are lock-free, so the "who is clocked in right now" dashboard never touches time_entries.
+ * Changes are applied once the clock-in or clock-out transaction commits. The map is rebuilt
+ * from the database on startup and on a fixed interval, so clock-ins handled by other
+ * instances are picked up. A refresh never overwrites a technician whose timer changed after
+ * the refresh started, since its snapshot may predate that change.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ActiveTimerRegistry {
+
+    private final TimeEntryRepository timeEntryRepository;
+
+    private final Map<UUID, ActiveTimer> timersByTechnician = new ConcurrentHashMap<>();
+
+    // Generation of the last committed change per technician, written under the same map entry lock
+    private final Map<UUID, Long> changedAt = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Get the running timer of a technician
+     */
+    public Optional<ActiveTimer> get(UUID technicianId) {
+        return Optional.ofNullable(timersByTechnician.get(technicianId));
+    }
+
+    /**
+     * Get all running timers, longest running first
+     */
+    public List<ActiveTimer> getAll() {
+        return timersByTechnician.values()
+                .stream()
+                .sorted(Comparator.comparing(ActiveTimer::startTime).thenComparing(ActiveTimer::technicianId))
+                .toList();
+    }
+
+    /**
+     * Record a started timer once the current transaction commits
+     */
+    public void started(ActiveTimer timer) {
+        afterCommit(() -> timersByTechnician.compute(timer.technicianId(), (id, current) -> {
+            changedAt.put(id, generation.incrementAndGet());
+            return timer;
+        }));
+    }
+
+    /**
+     * Remove a stopped timer once the current transaction commits (only if it is still the technician's timer)
+     */
+    public void stopped(UUID technicianId, UUID timeEntryId) {
+        afterCommit(() -> timersByTechnician.compute(technicianId, (id, timer) -> {
+            changedAt.put(id, generation.incrementAndGet());
+            return timer != null && timer.timeEntryId().equals(timeEntryId) ? null : timer;
+        }));
+    }
+
+    /**
+     * Reload all open entries from the database.
+     * Technicians changed after the load started keep their current timer: the load may have
+     * missed that clock-in, or still see that clocked-out entry as open.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${active-timers.refresh-interval:30000}",
+            initialDelayString = "${active-timers.refresh-interval:30000}")
+    public void refresh() {
+        long loadStartedAt = generation.get();
+        Map<UUID, ActiveTimer> loaded = new HashMap<>();
+        for (ActiveTimer timer : timeEntryRepository.findActiveTimers()) {
+            loaded.put(timer.technicianId(), timer);
+        }
+
+        Set<UUID> technicianIds = new HashSet<>(timersByTechnician.keySet());
+        technicianIds.addAll(loaded.keySet());
+        for (UUID technicianId : technicianIds) {
+            timersByTechnician.compute(technicianId, (id, current) ->
+                    changedAt.getOrDefault(id, 0L) > loadStartedAt ? current : loaded.get(id));
+        }
+        log.debug("Active timer registry loaded with {} timers", loaded.size());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
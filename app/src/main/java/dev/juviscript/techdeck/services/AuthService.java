@@ -9,13 +9,16 @@ import dev.juviscript.techdeck.models.User;
 import dev.juviscript.techdeck.repositories.UserRepository;
 import dev.juviscript.techdeck.security.JwtService;
 import dev.juviscript.techdeck.security.UserDetailsImpl;
+import dev.juviscript.techdeck.security.UserDetailsServiceImpl;
 import dev.juviscript.techdeck.util.StringUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -27,6 +30,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final UserDetailsServiceImpl userDetailsService;
     private final UserMapper userMapper;
 
     /**
@@ -65,8 +69,11 @@ public class AuthService {
     }
 
     /**
-     * Authenticate user and return tokens
+     * Authenticate user and return tokens.
+     * Served from the cached principal, so a burst of logins does not read the users table;
+     * no transaction, so a cache hit does not take a pooled connection either.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponse login(LoginRequest request) {
         // Normalize email for lookup
         String normalizedEmail = StringUtils.normalizeEmail(request.getEmail());
@@ -79,35 +86,33 @@ public class AuthService {
                 )
         );
 
-        // Get user details
+        // Get user details (loaded through the user details cache)
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
 
-        // Get user from database for full details
-        User user = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
         // Generate tokens
         String accessToken = jwtService.generateAccessToken(userDetails);
         String refreshToken = jwtService.generateRefreshToken(userDetails);
 
         // Build response
-        UserResponse userResponse = userMapper.toDTO(user);
+        UserResponse userResponse = userMapper.toDTO(userDetails);
         return AuthResponse.of(accessToken, refreshToken, userResponse);
     }
 
     /**
-     * Refresh access token using refresh token
+     * Refresh access token using refresh token (served from the cached principal, like login)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponse refreshToken(String refreshToken) {
         // Extract username from refresh token
         String email = jwtService.extractUsername(refreshToken);
 
-        // Load user
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
-        // Build user details
-        UserDetailsImpl userDetails = UserDetailsImpl.build(user);
+        // Load user details
+        UserDetailsImpl userDetails;
+        try {
+            userDetails = (UserDetailsImpl) userDetailsService.loadUserByUsername(email);
+        } catch (UsernameNotFoundException e) {
+            throw new IllegalArgumentException("User not found");
+        }
 
         // Validate refresh token
         if (!jwtService.isTokenValid(refreshToken, userDetails)) {
@@ -118,7 +123,7 @@ public class AuthService {
         String newAccessToken = jwtService.generateAccessToken(userDetails);
 
         // Build response (keep same refresh token)
-        UserResponse userResponse = userMapper.toDTO(user);
+        UserResponse userResponse = userMapper.toDTO(userDetails);
         return AuthResponse.of(newAccessToken, refreshToken, userResponse);
     }
 }
\ No newline at end of file
@@ -0,0 +1,148 @@
+package dev.juviscript.techdeck.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.juviscript.techdeck.dto.response.CustomerResponse;
+import dev.juviscript.techdeck.mappers.CustomerMapper;
+import dev.juviscript.techdeck.models.Customer;
+import dev.juviscript.techdeck.models.ServiceLocation;
+import dev.juviscript.techdeck.repositories.CustomerRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Streams every customer with their service locations to an output stream.
+ * Customers are read through a forward-only cursor and handled in chunks: each chunk's
+ * locations are loaded in one query, written out, and the persistence context is cleared,
+ * so memory use stays the same however many customers there are.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CustomerExportService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    // Same columns the import reads, so an export can be imported again
+    private static final String CSV_HEADER = "customer_id,first_name,last_name,email,phone_number,notes,"
+            + "location_id,address_line_1,address_line_2,city,state,zip_code,access_notes,is_primary";
+
+    private final CustomerRepository customerRepository;
+    private final ServiceLocationService serviceLocationService;
+    private final CustomerMapper customerMapper;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public enum ExportFormat {
+        NDJSON,
+        CSV
+    }
+
+    /**
+     * Write all customers to out: one JSON object per line (NDJSON),
+     * or one CSV row per service location (customers without locations get one row).
+     */
+    public void exportCustomers(ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<Customer> customers = customerRepository.streamAllByOrderByIdAsc()) {
+            Iterator<Customer> iterator = customers.iterator();
+            List<Customer> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+                    writeChunk(chunk, format, writer);
+                    chunk.clear();
+                    entityManager.clear();
+                }
+            }
+        }
+
+        writer.flush();
+    }
+
+    private void writeChunk(List<Customer> chunk, ExportFormat format, Writer writer) throws IOException {
+        List<UUID> customerIds = chunk.stream().map(Customer::getId).toList();
+        Map<UUID, List<ServiceLocation>> locations = serviceLocationService.getByCustomerIds(customerIds);
+
+        for (Customer customer : chunk) {
+            List<ServiceLocation> customerLocations = locations.getOrDefault(customer.getId(), List.of());
+            if (format == ExportFormat.CSV) {
+                writeCsvRows(customer, customerLocations, writer);
+            } else {
+                CustomerResponse row = customerMapper.toChangeResponse(customer);
+                row.setServiceLocations(customerLocations.stream().map(customerMapper::toResponse).toList());
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+
+    private static void writeCsvRows(Customer customer, List<ServiceLocation> locations, Writer writer)
+            throws IOException {
+        String customerColumns = String.join(",",
+                csv(customer.getId()),
+                csv(customer.getFirstName()),
+                csv(customer.getLastName()),
+                csv(customer.getEmail()),
+                csv(customer.getPhoneNumber()),
+                csv(customer.getNotes()));
+
+        if (locations.isEmpty()) {
+            writer.write(customerColumns);
+            writer.write(",,,,,,,,\n");
+            return;
+        }
+
+        for (ServiceLocation location : locations) {
+            writer.write(customerColumns);
+            writer.write(',');
+            writer.write(String.join(",",
+                    csv(location.getId()),
+                    csv(location.getAddressLine1()),
+                    csv(location.getAddressLine2()),
+                    csv(location.getCity()),
+                    csv(location.getState()),
+                    csv(location.getZipCode()),
+                    csv(location.getAccessNotes()),
+                    csv(location.isPrimary())));
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Quote a CSV field if it contains a separator, quote or line break (RFC 4180)
+     */
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return '"' + text.replace("\"", "\"\"") + '"';
+            }
+        }
+        return text;
+    }
+}
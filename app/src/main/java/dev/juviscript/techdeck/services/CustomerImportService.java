@@ -0,0 +1,325 @@
+package dev.juviscript.techdeck.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.juviscript.techdeck.dto.request.customer.CreateCustomerRequest;
+import dev.juviscript.techdeck.dto.request.customer.CreateServiceLocationRequest;
+import dev.juviscript.techdeck.dto.response.CustomerImportResponse;
+import dev.juviscript.techdeck.dto.response.CustomerImportResponse.RowError;
+import dev.juviscript.techdeck.mappers.CustomerMapper;
+import dev.juviscript.techdeck.models.Customer;
+import dev.juviscript.techdeck.repositories.CustomerRepository;
+import dev.juviscript.techdeck.util.CsvReader;
+import dev.juviscript.techdeck.util.StringUtils;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Bulk customer import from CSV or NDJSON, in stages:
+ * parse, then validate and normalize every row in parallel, then dedupe emails within the file,
+ * then insert in chunks through JDBC batching. Each chunk checks its emails against the database
+ * (one IN query per chunk instead of one per row) and commits in its own transaction, so a large
+ * file never holds one long transaction and its locks.
+ * Rejected rows are reported and skipped. If a chunk still breaks a constraint (e.g. an email created
+ * concurrently), only that chunk is retried row by row and the offending rows are reported.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CustomerImportService {
+
+    public static final int MAX_ROWS = 250_000;
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final CustomerRepository customerRepository;
+    private final CustomerMapper customerMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final PlatformTransactionManager transactionManager;
+
+    public enum ImportFormat {
+        NDJSON,
+        CSV
+    }
+
+    /**
+     * Import customers (with their service locations) from the given input.
+     * CSV uses the export layout: a header row, then one row per service location; consecutive
+     * rows with the same email are one customer. Unknown columns (e.g. customer_id) are ignored.
+     * Throws IllegalArgumentException if the file cannot be read at all (bad header, too many rows);
+     * nothing is imported then. Chunks committed before any other failure stay imported.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CustomerImportResponse importCustomers(ImportFormat format, InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<ImportRow> rows = format == ImportFormat.CSV ? parseCsv(reader) : parseNdjson(reader);
+
+        // Stage 2: validation and normalization are CPU-only, so run them on all cores
+        List<StagedRow> staged = IntStream.range(0, rows.size())
+                .parallel()
+                .mapToObj(i -> stage(rows.get(i)))
+                .toList();
+
+        // Stage 3: dedupe within the file, then against the database in chunks
+        List<RowError> errors = new ArrayList<>();
+        List<StagedRow> accepted = new ArrayList<>();
+        Set<String> seenEmails = new HashSet<>();
+        for (StagedRow row : staged) {
+            if (row.error() != null) {
+                errors.add(error(row, row.error()));
+            } else if (!seenEmails.add(row.email())) {
+                errors.add(error(row, "Duplicate email in file"));
+            } else {
+                accepted.add(row);
+            }
+        }
+
+        // Stage 4: insert in chunks, one transaction each; generated UUIDs keep the inserts batchable
+        TransactionTemplate chunkTransaction = new TransactionTemplate(transactionManager);
+        int imported = 0;
+        for (int from = 0; from < accepted.size(); from += CHUNK_SIZE) {
+            List<StagedRow> chunk = accepted.subList(from, Math.min(from + CHUNK_SIZE, accepted.size()));
+            imported += insertChunk(chunkTransaction, chunk, errors);
+        }
+
+        errors.sort(Comparator.comparingInt(RowError::getRow));
+        return CustomerImportResponse.builder()
+                .totalRows(rows.size())
+                .imported(imported)
+                .failed(errors.size())
+                .errors(errors)
+                .build();
+    }
+
+    private int insertChunk(TransactionTemplate chunkTransaction, List<StagedRow> chunk, List<RowError> errors) {
+        List<RowError> chunkErrors = new ArrayList<>();
+        try {
+            int inserted = chunkTransaction.execute(status -> insert(chunk, chunkErrors));
+            errors.addAll(chunkErrors);
+            return inserted;
+        } catch (DataIntegrityViolationException e) {
+            // Find the offending rows; the entities of the rolled-back attempt are discarded
+            int inserted = 0;
+            for (StagedRow row : chunk) {
+                StagedRow retry = row.withCustomer(customerMapper.toEntity(row.request()));
+                List<RowError> rowErrors = new ArrayList<>();
+                try {
+                    inserted += chunkTransaction.execute(status -> insert(List.of(retry), rowErrors));
+                    errors.addAll(rowErrors);
+                } catch (DataIntegrityViolationException rowFailure) {
+                    errors.add(error(row, "Violates a database constraint"));
+                }
+            }
+            return inserted;
+        }
+    }
+
+    private int insert(List<StagedRow> rows, List<RowError> errors) {
+        Set<String> existingEmails = new HashSet<>(customerRepository.findExistingEmails(
+                rows.stream().map(StagedRow::email).toList()));
+
+        List<Customer> customers = new ArrayList<>(rows.size());
+        for (StagedRow row : rows) {
+            if (existingEmails.contains(row.email())) {
+                errors.add(error(row, "Email already in use: " + row.email()));
+            } else {
+                customers.add(row.customer());
+            }
+        }
+        if (!customers.isEmpty()) {
+            // Flush here so a constraint violation surfaces as DataIntegrityViolationException for this chunk
+            customerRepository.saveAllAndFlush(customers);
+        }
+        return customers.size();
+    }
+
+    private StagedRow stage(ImportRow row) {
+        if (row.parseError() != null) {
+            return new StagedRow(row.number(), null, null, null, row.parseError());
+        }
+
+        CreateCustomerRequest request = row.request();
+        String email = StringUtils.normalizeEmail(request.getEmail());
+
+        List<String> violations = new ArrayList<>();
+        for (ConstraintViolation<CreateCustomerRequest> violation : validator.validate(request)) {
+            violations.add(violation.getMessage());
+        }
+        if (request.getServiceLocations() != null) {
+            for (CreateServiceLocationRequest location : request.getServiceLocations()) {
+                for (ConstraintViolation<CreateServiceLocationRequest> violation : validator.validate(location)) {
+                    violations.add(violation.getMessage());
+                }
+            }
+        }
+        if (!violations.isEmpty()) {
+            violations.sort(null);
+            return new StagedRow(row.number(), email, request, null, String.join("; ", violations));
+        }
+
+        return new StagedRow(row.number(), email, request, customerMapper.toEntity(request), null);
+    }
+
+    private List<ImportRow> parseNdjson(BufferedReader reader) throws IOException {
+        List<ImportRow> rows = new ArrayList<>();
+        String line;
+        int number = 0;
+        while ((line = reader.readLine()) != null) {
+            number++;
+            if (line.isBlank()) {
+                continue;
+            }
+            checkRowLimit(rows);
+            try {
+                rows.add(new ImportRow(number, objectMapper.readValue(line, CreateCustomerRequest.class), null));
+            } catch (JsonProcessingException e) {
+                rows.add(new ImportRow(number, null, "Invalid JSON: " + e.getOriginalMessage()));
+            }
+        }
+        return rows;
+    }
+
+    private List<ImportRow> parseCsv(BufferedReader reader) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV is empty");
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("email")) {
+            throw new IllegalArgumentException("CSV header must include an email column");
+        }
+
+        List<ImportRow> rows = new ArrayList<>();
+        ImportRow current = null;
+        String currentEmail = null;
+        int number = 1;
+        List<String> record;
+        while ((record = readCsvRecord(csv, number + 1, rows)) != null) {
+            number++;
+            if (record.isEmpty() || record.stream().allMatch(String::isBlank)) {
+                continue;
+            }
+
+            String email = StringUtils.normalizeEmail(column(record, columns, "email"));
+            CreateServiceLocationRequest location = csvLocation(record, columns);
+
+            // Consecutive rows for the same customer add locations to it
+            if (current != null && current.request() != null && email != null && email.equals(currentEmail)) {
+                if (location != null) {
+                    current.request().getServiceLocations().add(location);
+                }
+                continue;
+            }
+
+            checkRowLimit(rows);
+            CreateCustomerRequest request = CreateCustomerRequest.builder()
+                    .firstName(column(record, columns, "first_name"))
+                    .lastName(column(record, columns, "last_name"))
+                    .email(column(record, columns, "email"))
+                    .phoneNumber(column(record, columns, "phone_number"))
+                    .notes(column(record, columns, "notes"))
+                    .serviceLocations(new ArrayList<>())
+                    .build();
+            if (location != null) {
+                request.getServiceLocations().add(location);
+            }
+
+            current = new ImportRow(number, request, null);
+            currentEmail = email;
+            rows.add(current);
+        }
+        return rows;
+    }
+
+    /**
+     * Read one CSV record; a malformed record ends the file and is reported as a row error
+     */
+    private static List<String> readCsvRecord(CsvReader csv, int number, List<ImportRow> rows) throws IOException {
+        try {
+            return csv.readRecord();
+        } catch (IllegalArgumentException e) {
+            rows.add(new ImportRow(number, null, e.getMessage()));
+            return null;
+        }
+    }
+
+    private static CreateServiceLocationRequest csvLocation(List<String> record, Map<String, Integer> columns) {
+        String addressLine1 = column(record, columns, "address_line_1");
+        String city = column(record, columns, "city");
+        String zipCode = column(record, columns, "zip_code");
+        if (addressLine1 == null && city == null && zipCode == null) {
+            return null; // Customer without a location
+        }
+
+        return CreateServiceLocationRequest.builder()
+                .addressLine1(addressLine1)
+                .addressLine2(column(record, columns, "address_line_2"))
+                .city(city)
+                .state(column(record, columns, "state"))
+                .zipCode(zipCode)
+                .accessNotes(column(record, columns, "access_notes"))
+                .isPrimary(Boolean.parseBoolean(column(record, columns, "is_primary")))
+                .build();
+    }
+
+    private static String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static void checkRowLimit(List<ImportRow> rows) {
+        if (rows.size() >= MAX_ROWS) {
+            throw new IllegalArgumentException("Import is limited to " + MAX_ROWS + " customers");
+        }
+    }
+
+    private static RowError error(StagedRow row, String message) {
+        return RowError.builder()
+                .row(row.number())
+                .email(row.email())
+                .message(message)
+                .build();
+    }
+
+    private record ImportRow(int number, CreateCustomerRequest request, String parseError) {
+    }
+
+    private record StagedRow(int number, String email, CreateCustomerRequest request, Customer customer, String error) {
+
+        StagedRow withCustomer(Customer customer) {
+            return new StagedRow(number, email, request, customer, error);
+        }
+    }
+}
@@ -1,12 +1,28 @@
 package dev.juviscript.techdeck.services;
 
+import dev.juviscript.techdeck.dto.projection.CustomerSummary;
+import dev.juviscript.techdeck.dto.request.customer.UpdateCustomerRequest;
+import dev.juviscript.techdeck.dto.response.PageResponse;
 import dev.juviscript.techdeck.models.Customer;
+import dev.juviscript.techdeck.models.DeletedRecord;
+import dev.juviscript.techdeck.models.SyncEntityType;
 import dev.juviscript.techdeck.repositories.CustomerRepository;
+import dev.juviscript.techdeck.repositories.DeletedRecordRepository;
+import dev.juviscript.techdeck.repositories.ServiceLocationRepository;
+import dev.juviscript.techdeck.util.CursorUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,14 +31,118 @@ import java.util.UUID;
 @Transactional
 public class CustomerService {
 
+    public static final int DEFAULT_PAGE_SIZE = 25;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String SORT_NAME = "name";
+    private static final String SORT_CREATED_AT = "createdAt";
+
     private final CustomerRepository customerRepository;
+    private final ServiceLocationRepository serviceLocationRepository;
+    private final DeletedRecordRepository deletedRecordRepository;
 
     /**
-     * Get all customers
+     * Get one page of customer summaries sorted by name (last, first) or createdAt.
+     * Uses keyset paging when a cursor is given, offset paging when a page number is given.
+     * The cursor carries its own sort, so sort/direction are ignored when it is present.
      */
     @Transactional(readOnly = true)
-    public List<Customer> getAllCustomers() {
-        return customerRepository.findAll();
+    public PageResponse<CustomerSummary> getCustomerPage(String sort, String direction, String cursor,
+                                                  Integer page, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        if (cursor != null && !cursor.isBlank()) {
+            return getCustomerPageAfter(cursor, pageSize);
+        }
+
+        String sortField = parseSortField(sort);
+        Sort.Direction sortDirection = parseDirection(direction);
+        int pageNumber = page == null ? 0 : Math.max(page, 0);
+
+        Slice<CustomerSummary> slice;
+        if (SORT_NAME.equals(sortField)) {
+            Pageable pageable = PageRequest.of(pageNumber, pageSize);
+            slice = sortDirection.isAscending()
+                    ? customerRepository.findSummariesOrderByNameAsc(pageable)
+                    : customerRepository.findSummariesOrderByNameDesc(pageable);
+        } else {
+            Pageable pageable = PageRequest.of(pageNumber, pageSize, Sort.by(sortDirection, "createdAt", "id"));
+            slice = customerRepository.findSummariesBy(pageable);
+        }
+
+        return toPage(slice.getContent(), slice.hasNext(), sortField, sortDirection, pageSize, page != null ? pageNumber : null);
+    }
+
+    /**
+     * Get the page that follows a keyset cursor
+     */
+    private PageResponse<CustomerSummary> getCustomerPageAfter(String cursor, int pageSize) {
+        String[] parts = CursorUtils.decode(cursor, 5);
+        String sortField = parseSortField(parts[0]);
+        Sort.Direction sortDirection = parseDirection(parts[1]);
+        UUID lastId = UUID.fromString(parts[4]);
+
+        // Fetch one extra row to know if there is another page
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        boolean ascending = sortDirection.isAscending();
+
+        List<CustomerSummary> rows;
+        if (SORT_NAME.equals(sortField)) {
+            rows = ascending
+                    ? customerRepository.findPageByNameAsc(parts[2], parts[3], lastId, limit)
+                    : customerRepository.findPageByNameDesc(parts[2], parts[3], lastId, limit);
+        } else {
+            LocalDateTime lastCreatedAt;
+            try {
+                lastCreatedAt = LocalDateTime.parse(parts[2]);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            rows = ascending
+                    ? customerRepository.findPageByCreatedAtAsc(lastCreatedAt, lastId, limit)
+                    : customerRepository.findPageByCreatedAtDesc(lastCreatedAt, lastId, limit);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<CustomerSummary> items = hasMore ? rows.subList(0, pageSize) : rows;
+        return toPage(items, hasMore, sortField, sortDirection, pageSize, null);
+    }
+
+    private PageResponse<CustomerSummary> toPage(List<CustomerSummary> items, boolean hasMore, String sortField,
+                                          Sort.Direction direction, int pageSize, Integer page) {
+        String nextCursor = null;
+        if (hasMore && !items.isEmpty()) {
+            CustomerSummary last = items.get(items.size() - 1);
+            nextCursor = SORT_NAME.equals(sortField)
+                    ? CursorUtils.encode(sortField, direction.name(), Objects.requireNonNullElse(last.lastName(), ""),
+                            Objects.requireNonNullElse(last.firstName(), ""), last.id().toString())
+                    : CursorUtils.encode(sortField, direction.name(), last.createdAt().toString(), "", last.id().toString());
+        }
+
+        return PageResponse.<CustomerSummary>builder()
+                .items(items)
+                .size(pageSize)
+                .hasMore(hasMore)
+                .nextCursor(nextCursor)
+                .page(page)
+                .build();
+    }
+
+    private String parseSortField(String sort) {
+        if (sort == null || sort.isBlank() || SORT_NAME.equalsIgnoreCase(sort)) {
+            return SORT_NAME;
+        }
+        if (SORT_CREATED_AT.equalsIgnoreCase(sort)) {
+            return SORT_CREATED_AT;
+        }
+        throw new IllegalArgumentException("Unsupported sort field: " + sort);
+    }
+
+    private Sort.Direction parseDirection(String direction) {
+        if (direction == null || direction.isBlank()) {
+            return Sort.Direction.ASC;
+        }
+        return Sort.Direction.fromString(direction);
     }
 
     /**
@@ -30,7 +150,7 @@ public class CustomerService {
      */
     @Transactional(readOnly = true)
     public Optional<Customer> getCustomerById(UUID id) {
-        return customerRepository.findById(id);
+        return customerRepository.findWithServiceLocationsById(id);
     }
 
     /**
@@ -52,35 +172,58 @@ public class CustomerService {
     }
 
     /**
-     * Update an existing customer
+     * Update an existing customer: the fields given in the request are applied to the row as it
+     * is now, so a concurrent update to other fields is kept. Empty if the customer does not exist.
+     * Throws PreconditionFailedException if expectedVersion is given and the customer has changed since.
      */
-    public Customer updateCustomer(UUID id, Customer updatedCustomer) {
-        return customerRepository.findById(id)
+    public Optional<Customer> updateCustomer(UUID id, UpdateCustomerRequest request, Long expectedVersion) {
+        return customerRepository.findWithServiceLocationsById(id)
                 .map(customer -> {
+                    PreconditionFailedException.checkVersion(expectedVersion, customer.getVersion());
+
                     // Check if email changed and is already in use by someone else
-                    if (!customer.getEmail().equalsIgnoreCase(updatedCustomer.getEmail())
-                            && customerRepository.existsByEmail(updatedCustomer.getEmail())) {
-                        throw new IllegalArgumentException("Email already in use: " + updatedCustomer.getEmail());
+                    if (request.getEmail() != null
+                            && !customer.getEmail().equalsIgnoreCase(request.getEmail())
+                            && customerRepository.existsByEmail(request.getEmail())) {
+                        throw new IllegalArgumentException("Email already in use: " + request.getEmail());
                     }
 
-                    customer.setFirstName(updatedCustomer.getFirstName());
-                    customer.setLastName(updatedCustomer.getLastName());
-                    customer.setEmail(updatedCustomer.getEmail());
-                    customer.setPhoneNumber(updatedCustomer.getPhoneNumber());
-                    customer.setNotes(updatedCustomer.getNotes());
+                    if (request.getFirstName() != null) {
+                        customer.setFirstName(request.getFirstName());
+                    }
+                    if (request.getLastName() != null) {
+                        customer.setLastName(request.getLastName());
+                    }
+                    if (request.getEmail() != null) {
+                        customer.setEmail(request.getEmail());
+                    }
+                    if (request.getPhoneNumber() != null) {
+                        customer.setPhoneNumber(request.getPhoneNumber());
+                    }
+                    if (request.getNotes() != null) {
+                        customer.setNotes(request.getNotes());
+                    }
                     return customerRepository.save(customer);
-                })
-                .orElseThrow(() -> new IllegalArgumentException("Customer not found with id: " + id));
+                });
     }
 
     /**
-     * Delete a customer by ID
+     * Delete a customer by ID (its service locations are deleted with it).
+     * Tombstones are recorded so sync clients drop their copies.
      */
     public void deleteCustomer(UUID id) {
         if (!customerRepository.existsById(id)) {
             throw new IllegalArgumentException("Customer not found with id: " + id);
         }
+
+        List<DeletedRecord> tombstones = new ArrayList<>();
+        tombstones.add(new DeletedRecord(SyncEntityType.CUSTOMER, id));
+        for (UUID locationId : serviceLocationRepository.findIdsByCustomerId(id)) {
+            tombstones.add(new DeletedRecord(SyncEntityType.SERVICE_LOCATION, locationId));
+        }
+
         customerRepository.deleteById(id);
+        deletedRecordRepository.saveAll(tombstones);
     }
 
     /**
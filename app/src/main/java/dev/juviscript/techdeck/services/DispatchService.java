@@ -0,0 +1,49 @@
+package dev.juviscript.techdeck.services;
+
+import dev.juviscript.techdeck.dto.projection.DispatchBoard;
+import dev.juviscript.techdeck.dto.projection.DispatchBoardRow;
+import dev.juviscript.techdeck.dto.projection.ServiceLineSummary;
+import dev.juviscript.techdeck.repositories.WorkOrderRepository;
+import dev.juviscript.techdeck.repositories.WorkOrderServiceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DispatchService {
+
+    private final WorkOrderRepository workOrderRepository;
+    private final WorkOrderServiceRepository workOrderServiceRepository;
+
+    /**
+     * Get the dispatch board for one day.
+     * Always two statements: one for the work orders with customer, location and technician,
+     * one for all of their service lines.
+     */
+    public DispatchBoard getDispatchBoard(LocalDate date) {
+        List<DispatchBoardRow> rows = workOrderRepository.findDispatchBoard(
+                date.atStartOfDay(),
+                date.plusDays(1).atStartOfDay()
+        );
+
+        if (rows.isEmpty()) {
+            return new DispatchBoard(date, rows, Map.of());
+        }
+
+        List<UUID> workOrderIds = rows.stream().map(DispatchBoardRow::workOrderId).toList();
+        Map<UUID, List<ServiceLineSummary>> serviceLines = workOrderServiceRepository
+                .findLinesByWorkOrderIdIn(workOrderIds)
+                .stream()
+                .collect(Collectors.groupingBy(ServiceLineSummary::workOrderId));
+
+        return new DispatchBoard(date, rows, serviceLines);
+    }
+}
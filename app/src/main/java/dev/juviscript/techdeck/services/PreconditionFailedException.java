@@ -0,0 +1,24 @@
+package dev.juviscript.techdeck.services;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when an If-Match version no longer matches the stored entity
+ */
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+    /**
+     * Throw unless expectedVersion is null (no precondition) or equal to the current version
+     */
+    public static void checkVersion(Long expectedVersion, Long currentVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new PreconditionFailedException("Resource has changed (current version " + currentVersion + ")");
+        }
+    }
+}
@@ -1,16 +1,23 @@
 package dev.juviscript.techdeck.services;
 
-import dev.juviscript.techdeck.models.Customer;
+import dev.juviscript.techdeck.dto.projection.ServiceLocationSummary;
+import dev.juviscript.techdeck.models.DeletedRecord;
 import dev.juviscript.techdeck.models.ServiceLocation;
+import dev.juviscript.techdeck.models.SyncEntityType;
 import dev.juviscript.techdeck.repositories.CustomerRepository;
+import dev.juviscript.techdeck.repositories.DeletedRecordRepository;
 import dev.juviscript.techdeck.repositories.ServiceLocationRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -19,6 +26,7 @@ public class ServiceLocationService {
 
     private final ServiceLocationRepository serviceLocationRepository;
     private final CustomerRepository customerRepository;
+    private final DeletedRecordRepository deletedRecordRepository;
 
     /**
      * Get all service locations for a customer
@@ -31,6 +39,32 @@ public class ServiceLocationService {
         return serviceLocationRepository.findByCustomerId(customerId);
     }
 
+    /**
+     * Get location summaries for many customers in one query, grouped by customer ID
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, List<ServiceLocationSummary>> getSummariesByCustomerIds(Collection<UUID> customerIds) {
+        if (customerIds.isEmpty()) {
+            return Map.of();
+        }
+        return serviceLocationRepository.findSummariesByCustomerIdIn(customerIds)
+                .stream()
+                .collect(Collectors.groupingBy(ServiceLocationSummary::customerId));
+    }
+
+    /**
+     * Get full service locations for many customers in one query, grouped by customer ID
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, List<ServiceLocation>> getByCustomerIds(Collection<UUID> customerIds) {
+        if (customerIds.isEmpty()) {
+            return Map.of();
+        }
+        return serviceLocationRepository.findByCustomerIdIn(customerIds)
+                .stream()
+                .collect(Collectors.groupingBy(location -> location.getCustomer().getId()));
+    }
+
     /**
      * Get a service location by ID
      */
@@ -40,74 +74,76 @@ public class ServiceLocationService {
     }
 
     /**
-     * Add a service location to a customer
+     * Add a service location to a customer.
+     * A new primary location takes the flag from the current one in a single UPDATE.
      */
     public ServiceLocation addToCustomer(UUID customerId, ServiceLocation location) {
-        Customer customer = customerRepository.findById(customerId)
-                .orElseThrow(() -> new IllegalArgumentException("Customer not found with id: " + customerId));
-
-        location.setCustomer(customer);
+        if (!customerRepository.existsById(customerId)) {
+            throw new IllegalArgumentException("Customer not found with id: " + customerId);
+        }
 
-        // If this location is marked as primary, set all others to non-primary
+        // Cleared before the insert so the partial unique index never sees two primaries
         if (location.isPrimary()) {
-            clearPrimaryFlag(customerId);
+            serviceLocationRepository.clearPrimary(customerId, LocalDateTime.now());
         }
 
+        location.setCustomer(customerRepository.getReferenceById(customerId));
         return serviceLocationRepository.save(location);
     }
 
     /**
-     * Update a service location
+     * Update a service location.
+     * Making it primary is two bulk UPDATEs (clear the old primary, set this one) instead of
+     * loading and saving every location of the customer. If a concurrent request made another
+     * location primary first, the partial unique index rejects this one (DataIntegrityViolationException).
+     * Throws PreconditionFailedException if expectedVersion is given and the location has changed since.
      */
-    public ServiceLocation update(UUID locationId, ServiceLocation updatedLocation) {
+    public ServiceLocation update(UUID locationId, ServiceLocation updatedLocation, Long expectedVersion) {
+        ServiceLocation location = serviceLocationRepository.findById(locationId)
+                .orElseThrow(() -> new IllegalArgumentException("Service location not found with id: " + locationId));
+        PreconditionFailedException.checkVersion(expectedVersion, location.getVersion());
+
+        if (updatedLocation.getAddressLine1() != null) {
+            location.setAddressLine1(updatedLocation.getAddressLine1());
+        }
+        if (updatedLocation.getAddressLine2() != null) {
+            location.setAddressLine2(updatedLocation.getAddressLine2());
+        }
+        if (updatedLocation.getCity() != null) {
+            location.setCity(updatedLocation.getCity());
+        }
+        if (updatedLocation.getState() != null) {
+            location.setState(updatedLocation.getState());
+        }
+        if (updatedLocation.getZipCode() != null) {
+            location.setZipCode(updatedLocation.getZipCode());
+        }
+        if (updatedLocation.getAccessNotes() != null) {
+            location.setAccessNotes(updatedLocation.getAccessNotes());
+        }
+
+        if (!updatedLocation.isPrimary() || location.isPrimary()) {
+            location.setPrimary(updatedLocation.isPrimary());
+            return serviceLocationRepository.save(location);
+        }
+
+        // Handle primary flag change: the bulk updates flush the changes above first,
+        // then clear the persistence context, so the result is reloaded
+        LocalDateTime now = LocalDateTime.now();
+        serviceLocationRepository.clearPrimary(location.getCustomer().getId(), now);
+        serviceLocationRepository.markPrimary(locationId, now);
         return serviceLocationRepository.findById(locationId)
-                .map(location -> {
-                    if (updatedLocation.getAddressLine1() != null) {
-                        location.setAddressLine1(updatedLocation.getAddressLine1());
-                    }
-                    if (updatedLocation.getAddressLine2() != null) {
-                        location.setAddressLine2(updatedLocation.getAddressLine2());
-                    }
-                    if (updatedLocation.getCity() != null) {
-                        location.setCity(updatedLocation.getCity());
-                    }
-                    if (updatedLocation.getState() != null) {
-                        location.setState(updatedLocation.getState());
-                    }
-                    if (updatedLocation.getZipCode() != null) {
-                        location.setZipCode(updatedLocation.getZipCode());
-                    }
-                    if (updatedLocation.getAccessNotes() != null) {
-                        location.setAccessNotes(updatedLocation.getAccessNotes());
-                    }
-
-                    // Handle primary flag change
-                    if (updatedLocation.isPrimary() && !location.isPrimary()) {
-                        clearPrimaryFlag(location.getCustomer().getId());
-                    }
-                    location.setPrimary(updatedLocation.isPrimary());
-
-                    return serviceLocationRepository.save(location);
-                })
                 .orElseThrow(() -> new IllegalArgumentException("Service location not found with id: " + locationId));
     }
 
     /**
-     * Delete a service location
+     * Delete a service location (a tombstone is recorded for sync clients)
      */
     public void delete(UUID locationId) {
         if (!serviceLocationRepository.existsById(locationId)) {
             throw new IllegalArgumentException("Service location not found with id: " + locationId);
         }
         serviceLocationRepository.deleteById(locationId);
+        deletedRecordRepository.save(new DeletedRecord(SyncEntityType.SERVICE_LOCATION, locationId));
     }
-
-    /**
-     * Clear the primary flag on all locations for a customer
-     */
-    private void clearPrimaryFlag(UUID customerId) {
-        List<ServiceLocation> locations = serviceLocationRepository.findByCustomerId(customerId);
-        locations.forEach(loc -> loc.setPrimary(false));
-        serviceLocationRepository.saveAll(locations);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,244 @@
+package dev.juviscript.techdeck.services;
+
+import dev.juviscript.techdeck.models.ServiceType;
+import dev.juviscript.techdeck.repositories.ServiceTypeRepository;
+import dev.juviscript.techdeck.util.ETags;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory catalog of service types.
+ * Reads are served from an immutable snapshot that is swapped atomically on every
+ * committed write, and fully reloaded on startup and on a fixed interval so that
+ * writes made by other instances are picked up.
+ * Entities handed out are copies, so callers can modify them without touching the snapshot.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ServiceTypeCatalog {
+
+    private final ServiceTypeRepository serviceTypeRepository;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    /**
+     * Get all service types, ordered by name
+     */
+    public List<ServiceType> getAll() {
+        return copyAll(snapshot().all());
+    }
+
+    /**
+     * Get active service types, ordered by name
+     */
+    public List<ServiceType> getActive() {
+        return copyAll(snapshot().active());
+    }
+
+    /**
+     * Get service type by ID.
+     * A miss falls back to the database and merges the row into the catalog, since it may have
+     * been created on another instance after the last refresh.
+     */
+    public Optional<ServiceType> getById(UUID id) {
+        ServiceType cached = snapshot().byId().get(id);
+        if (cached != null) {
+            return Optional.of(copy(cached));
+        }
+        Optional<ServiceType> loaded = serviceTypeRepository.findById(id).map(ServiceTypeCatalog::copy);
+        loaded.ifPresent(serviceType -> apply(copy(serviceType)));
+        return loaded;
+    }
+
+    /**
+     * Get service type by name (case-insensitive)
+     */
+    public Optional<ServiceType> getByName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(snapshot().byName().get(nameKey(name))).map(ServiceTypeCatalog::copy);
+    }
+
+    /**
+     * ETag for the full list or the active-only list
+     */
+    public String getListETag(boolean activeOnly) {
+        return activeOnly ? snapshot().activeETag() : snapshot().allETag();
+    }
+
+    /**
+     * ETag for a single service type (its version, as for every other entity)
+     */
+    public static String eTagOf(ServiceType serviceType) {
+        return ETags.of(serviceType.getVersion());
+    }
+
+    /**
+     * Replace one entry once the current transaction commits (or immediately if there is none).
+     * The copy is taken after commit so generated timestamps from the flush are included.
+     */
+    public void put(ServiceType serviceType) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(copy(serviceType));
+                }
+            });
+        } else {
+            apply(copy(serviceType));
+        }
+    }
+
+    /**
+     * Reload the whole catalog from the database.
+     * A write committed while the load was running may be missing from it, or be loaded at its
+     * older version; the entry with the higher version wins, so such writes are never undone.
+     * Service types are never deleted, so entries missing from the load are kept.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${service-type-catalog.refresh-interval:60000}",
+            initialDelayString = "${service-type-catalog.refresh-interval:60000}")
+    public void refresh() {
+        List<ServiceType> loaded = copyAll(serviceTypeRepository.findAll());
+        Snapshot merged = snapshot.updateAndGet(current -> {
+            if (current == null) {
+                return Snapshot.of(loaded);
+            }
+            Map<UUID, ServiceType> entries = new LinkedHashMap<>(current.byId());
+            for (ServiceType entry : loaded) {
+                entries.merge(entry.getId(), entry, (existing, candidate) -> isNewer(candidate, existing) ? candidate : existing);
+            }
+            return Snapshot.of(entries.values());
+        });
+        log.debug("Service type catalog loaded with {} entries", merged.all().size());
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            refresh();
+            current = snapshot.get();
+        }
+        return current;
+    }
+
+    private void apply(ServiceType entry) {
+        snapshot.updateAndGet(current -> {
+            if (current == null) {
+                return null; // Loaded lazily on first read
+            }
+            ServiceType existing = current.byId().get(entry.getId());
+            if (existing != null && !isNewer(entry, existing)) {
+                return current; // A refresh or a later commit already has this version or newer
+            }
+            Map<UUID, ServiceType> entries = new LinkedHashMap<>(current.byId());
+            entries.put(entry.getId(), entry);
+            return Snapshot.of(entries.values());
+        });
+    }
+
+    private static boolean isNewer(ServiceType candidate, ServiceType existing) {
+        long candidateVersion = candidate.getVersion() != null ? candidate.getVersion() : -1;
+        long existingVersion = existing.getVersion() != null ? existing.getVersion() : -1;
+        return candidateVersion > existingVersion;
+    }
+
+    private static String nameKey(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static List<ServiceType> copyAll(Collection<ServiceType> serviceTypes) {
+        List<ServiceType> copies = new ArrayList<>(serviceTypes.size());
+        for (ServiceType serviceType : serviceTypes) {
+            copies.add(copy(serviceType));
+        }
+        return copies;
+    }
+
+    private static ServiceType copy(ServiceType source) {
+        ServiceType copy = new ServiceType();
+        copy.setId(source.getId());
+        copy.setName(source.getName());
+        copy.setDescription(source.getDescription());
+        copy.setBaseDurationInMinutes(source.getBaseDurationInMinutes());
+        copy.setBaseRate(source.getBaseRate());
+        copy.setActive(source.isActive());
+        copy.setVersion(source.getVersion());
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setUpdatedAt(source.getUpdatedAt());
+        return copy;
+    }
+
+    /**
+     * Hash of the id and version of every entry, so all instances agree on the same ETag
+     */
+    private static String computeETag(List<ServiceType> serviceTypes) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (ServiceType serviceType : serviceTypes) {
+                digest.update(String.valueOf(serviceType.getId()).getBytes(StandardCharsets.UTF_8));
+                digest.update(String.valueOf(serviceType.getVersion()).getBytes(StandardCharsets.UTF_8));
+            }
+            return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Snapshot(
+            List<ServiceType> all,
+            List<ServiceType> active,
+            Map<UUID, ServiceType> byId,
+            Map<String, ServiceType> byName,
+            String allETag,
+            String activeETag
+    ) {
+
+        static Snapshot of(Collection<ServiceType> entries) {
+            List<ServiceType> all = entries.stream()
+                    .sorted(Comparator.comparing(ServiceType::getName, String.CASE_INSENSITIVE_ORDER))
+                    .toList();
+            List<ServiceType> active = all.stream().filter(ServiceType::isActive).toList();
+
+            Map<UUID, ServiceType> byId = new LinkedHashMap<>();
+            Map<String, ServiceType> byName = new LinkedHashMap<>();
+            for (ServiceType serviceType : all) {
+                byId.put(serviceType.getId(), serviceType);
+                byName.put(nameKey(serviceType.getName()), serviceType);
+            }
+
+            return new Snapshot(
+                    all,
+                    active,
+                    Map.copyOf(byId),
+                    Map.copyOf(byName),
+                    computeETag(all),
+                    computeETag(active)
+            );
+        }
+    }
+}
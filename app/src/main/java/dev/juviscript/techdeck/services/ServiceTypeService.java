@@ -1,9 +1,12 @@
 package dev.juviscript.techdeck.services;
 
+import dev.juviscript.techdeck.dto.request.servicetype.UpdateServiceTypeRequest;
 import dev.juviscript.techdeck.models.ServiceType;
 import dev.juviscript.techdeck.repositories.ServiceTypeRepository;
+import dev.juviscript.techdeck.util.StringUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -16,37 +19,48 @@ import java.util.UUID;
 public class ServiceTypeService {
 
     private final ServiceTypeRepository serviceTypeRepository;
+    private final ServiceTypeCatalog serviceTypeCatalog;
+
+    // Reads come from the in-memory catalog; writes go to the database and then update the catalog
 
     /**
      * Get all service types
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<ServiceType> getAllServiceTypes() {
-        return serviceTypeRepository.findAll();
+        return serviceTypeCatalog.getAll();
     }
 
     /**
      * Get only active service types
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<ServiceType> getActiveServiceTypes() {
-        return serviceTypeRepository.findByIsActiveTrue();
+        return serviceTypeCatalog.getActive();
     }
 
     /**
      * Get service type by ID
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<ServiceType> getServiceTypeById(UUID id) {
-        return serviceTypeRepository.findById(id);
+        return serviceTypeCatalog.getById(id);
     }
 
     /**
-     * Get service type by name
+     * Get service type by name (case-insensitive)
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<ServiceType> getServiceTypeByName(String name) {
-        return serviceTypeRepository.findByName(name);
+        return serviceTypeCatalog.getByName(name);
+    }
+
+    /**
+     * ETag of the current list (all or active only)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public String getServiceTypesETag(boolean activeOnly) {
+        return serviceTypeCatalog.getListETag(activeOnly);
     }
 
     /**
@@ -56,38 +70,51 @@ public class ServiceTypeService {
         if (serviceTypeRepository.existsByName(serviceType.getName())) {
             throw new IllegalArgumentException("Service type already exists: " + serviceType.getName());
         }
-        return serviceTypeRepository.save(serviceType);
+        ServiceType savedServiceType = serviceTypeRepository.save(serviceType);
+        serviceTypeCatalog.put(savedServiceType);
+        return savedServiceType;
     }
 
     /**
-     * Update an existing service type
+     * Update an existing service type: the fields given in the request are applied to the row as
+     * it is in the database, never to a catalog copy that may predate another instance's write.
+     * Empty if the service type does not exist.
+     * Throws PreconditionFailedException if expectedVersion is given and the service type has changed since.
      */
-    public ServiceType updateServiceType(UUID id, ServiceType updatedServiceType) {
+    public Optional<ServiceType> updateServiceType(UUID id, UpdateServiceTypeRequest request, Long expectedVersion) {
         return serviceTypeRepository.findById(id)
                 .map(serviceType -> {
+                    PreconditionFailedException.checkVersion(expectedVersion, serviceType.getVersion());
+
+                    String name = request.getName() != null ? StringUtils.capitalizeWords(request.getName()) : null;
+
                     // Check if name changed and is already in use
-                    if (updatedServiceType.getName() != null 
-                            && !serviceType.getName().equalsIgnoreCase(updatedServiceType.getName())
-                            && serviceTypeRepository.existsByName(updatedServiceType.getName())) {
-                        throw new IllegalArgumentException("Service type already exists: " + updatedServiceType.getName());
+                    if (name != null
+                            && !serviceType.getName().equalsIgnoreCase(name)
+                            && serviceTypeRepository.existsByName(name)) {
+                        throw new IllegalArgumentException("Service type already exists: " + name);
                     }
 
-                    if (updatedServiceType.getName() != null) {
-                        serviceType.setName(updatedServiceType.getName());
+                    if (name != null) {
+                        serviceType.setName(name);
                     }
-                    if (updatedServiceType.getDescription() != null) {
-                        serviceType.setDescription(updatedServiceType.getDescription());
+                    if (request.getDescription() != null) {
+                        serviceType.setDescription(StringUtils.trim(request.getDescription()));
                     }
-                    if (updatedServiceType.getBaseRate() != null) {
-                        serviceType.setBaseRate(updatedServiceType.getBaseRate());
+                    if (request.getBaseRate() != null) {
+                        serviceType.setBaseRate(request.getBaseRate());
                     }
-                    if (updatedServiceType.getBaseDurationInMinutes() != null) {
-                        serviceType.setBaseDurationInMinutes(updatedServiceType.getBaseDurationInMinutes());
+                    if (request.getBaseDurationInMinutes() != null) {
+                        serviceType.setBaseDurationInMinutes(request.getBaseDurationInMinutes());
+                    }
+                    if (request.getIsActive() != null) {
+                        serviceType.setActive(request.getIsActive());
                     }
 
-                    return serviceTypeRepository.save(serviceType);
-                })
-                .orElseThrow(() -> new IllegalArgumentException("Service type not found with id: " + id));
+                    ServiceType savedServiceType = serviceTypeRepository.save(serviceType);
+                    serviceTypeCatalog.put(savedServiceType);
+                    return savedServiceType;
+                });
     }
 
     /**
@@ -97,7 +124,7 @@ public class ServiceTypeService {
         serviceTypeRepository.findById(id)
                 .ifPresent(serviceType -> {
                     serviceType.setActive(false);
-                    serviceTypeRepository.save(serviceType);
+                    serviceTypeCatalog.put(serviceTypeRepository.save(serviceType));
                 });
     }
 
@@ -108,15 +135,15 @@ public class ServiceTypeService {
         serviceTypeRepository.findById(id)
                 .ifPresent(serviceType -> {
                     serviceType.setActive(true);
-                    serviceTypeRepository.save(serviceType);
+                    serviceTypeCatalog.put(serviceTypeRepository.save(serviceType));
                 });
     }
 
     /**
      * Check if name is available
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean isNameAvailable(String name) {
-        return !serviceTypeRepository.existsByName(name);
+        return serviceTypeCatalog.getByName(name).isEmpty();
     }
 }
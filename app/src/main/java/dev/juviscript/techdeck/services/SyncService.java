@@ -0,0 +1,214 @@
+package dev.juviscript.techdeck.services;
+
+import dev.juviscript.techdeck.dto.response.SyncChangesResponse;
+import dev.juviscript.techdeck.dto.response.SyncChangesResponse.Tombstone;
+import dev.juviscript.techdeck.mappers.CustomerMapper;
+import dev.juviscript.techdeck.mappers.ServiceTypeMapper;
+import dev.juviscript.techdeck.mappers.TimeEntryMapper;
+import dev.juviscript.techdeck.mappers.WorkOrderMapper;
+import dev.juviscript.techdeck.models.Customer;
+import dev.juviscript.techdeck.models.DeletedRecord;
+import dev.juviscript.techdeck.models.ServiceLocation;
+import dev.juviscript.techdeck.models.ServiceType;
+import dev.juviscript.techdeck.models.TimeEntry;
+import dev.juviscript.techdeck.models.WorkOrder;
+import dev.juviscript.techdeck.repositories.CustomerRepository;
+import dev.juviscript.techdeck.repositories.DeletedRecordRepository;
+import dev.juviscript.techdeck.repositories.ServiceLocationRepository;
+import dev.juviscript.techdeck.repositories.ServiceTypeRepository;
+import dev.juviscript.techdeck.repositories.TimeEntryRepository;
+import dev.juviscript.techdeck.repositories.WorkOrderRepository;
+import dev.juviscript.techdeck.util.CursorUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Delta sync feed for offline clients.
+ * Returns everything changed after a high-water mark, one entity type after another
+ * (customers, service locations, service types, work orders, time entries, then tombstones),
+ * each walked by keyset on (updated_at, id). A page can span several types; the cursor
+ * records the type and the last row returned.
+ * <p>
+ * The high-water mark follows commit order, not the clock: it stops at the start of the oldest
+ * transaction that is still writing (or now, if there is none), minus a small safety window for
+ * clock skew between instances and the database. updated_at is set when a row is flushed, so a
+ * long transaction can commit rows stamped well before now; those rows are always after the mark
+ * and are picked up by the next sync instead of being skipped. Rows between the mark and now may
+ * be sent again by the next sync; clients apply changes as upserts.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SyncService {
+
+    public static final int DEFAULT_LIMIT = 500;
+    public static final int MAX_LIMIT = 1000;
+
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID MAX_ID = new UUID(-1L, -1L);
+    private static final int STAGE_COUNT = 6;
+
+    private final CustomerRepository customerRepository;
+    private final ServiceLocationRepository serviceLocationRepository;
+    private final ServiceTypeRepository serviceTypeRepository;
+    private final WorkOrderRepository workOrderRepository;
+    private final TimeEntryRepository timeEntryRepository;
+    private final DeletedRecordRepository deletedRecordRepository;
+    private final CustomerMapper customerMapper;
+    private final ServiceTypeMapper serviceTypeMapper;
+    private final WorkOrderMapper workOrderMapper;
+    private final TimeEntryMapper timeEntryMapper;
+
+    @Value("${sync.safety-window-seconds:5}")
+    private long safetyWindowSeconds;
+
+    /**
+     * Get one page of changes.
+     * First call: pass since (null for a full sync). Following calls: pass the nextCursor.
+     * Throws IllegalArgumentException for a malformed cursor or an out-of-range limit.
+     */
+    public SyncChangesResponse getChanges(LocalDateTime since, String cursor, Integer limit) {
+        int pageSize = limit != null ? limit : DEFAULT_LIMIT;
+        if (pageSize < 1 || pageSize > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        LocalDateTime from;
+        LocalDateTime until;
+        int stage;
+        Position after;
+        if (cursor != null) {
+            String[] parts = CursorUtils.decode(cursor, 5);
+            try {
+                from = LocalDateTime.parse(parts[0]);
+                until = LocalDateTime.parse(parts[1]);
+                stage = Integer.parseInt(parts[2]);
+                after = new Position(LocalDateTime.parse(parts[3]), UUID.fromString(parts[4]));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            if (stage < 0 || stage >= STAGE_COUNT) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        } else {
+            from = since != null ? since : BEGINNING;
+            until = highWaterMark();
+            stage = 0;
+            after = Position.start(from);
+        }
+
+        SyncChangesResponse response = SyncChangesResponse.builder()
+                .highWaterMark(until)
+                .build();
+
+        int collected = 0;
+        while (stage < STAGE_COUNT) {
+            int remaining = pageSize - collected;
+            if (remaining == 0) {
+                response.setHasMore(true);
+                response.setNextCursor(CursorUtils.encode(
+                        from.toString(), until.toString(), String.valueOf(stage),
+                        after.time().toString(), after.id().toString()));
+                break;
+            }
+
+            StageResult result = collectStage(stage, after, until, remaining, response);
+            collected += result.count();
+            if (result.last() != null) {
+                after = result.last();
+            } else {
+                stage++;
+                after = Position.start(from);
+            }
+        }
+        return response;
+    }
+
+    private LocalDateTime highWaterMark() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime horizon = deletedRecordRepository.findOldestWritingTransactionStart()
+                .map(millis -> LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault()))
+                .filter(oldestStart -> oldestStart.isBefore(now))
+                .orElse(now);
+        return horizon.minusSeconds(safetyWindowSeconds);
+    }
+
+    private StageResult collectStage(int stage, Position after, LocalDateTime until, int remaining,
+                                     SyncChangesResponse response) {
+        // One extra row tells us whether this type has more changes than fit on the page
+        Pageable page = PageRequest.of(0, remaining + 1);
+
+        return switch (stage) {
+            case 0 -> collect(
+                    customerRepository.findChangedAfter(after.time(), after.id(), until, page), remaining,
+                    Customer::getUpdatedAt, Customer::getId,
+                    customer -> response.getCustomers().add(customerMapper.toChangeResponse(customer)));
+            case 1 -> collect(
+                    serviceLocationRepository.findChangedAfter(after.time(), after.id(), until, page), remaining,
+                    ServiceLocation::getUpdatedAt, ServiceLocation::getId,
+                    location -> response.getServiceLocations().add(customerMapper.toResponse(location)));
+            case 2 -> collect(
+                    serviceTypeRepository.findChangedAfter(after.time(), after.id(), until, page), remaining,
+                    ServiceType::getUpdatedAt, ServiceType::getId,
+                    serviceType -> response.getServiceTypes().add(serviceTypeMapper.toResponse(serviceType)));
+            case 3 -> collect(
+                    workOrderRepository.findChangedAfter(after.time(), after.id(), until, page), remaining,
+                    WorkOrder::getUpdatedAt, WorkOrder::getId,
+                    workOrder -> response.getWorkOrders().add(workOrderMapper.toResponse(workOrder)));
+            case 4 -> collect(
+                    timeEntryRepository.findChangedAfter(after.time(), after.id(), until, page), remaining,
+                    TimeEntry::getUpdatedAt, TimeEntry::getId,
+                    timeEntry -> response.getTimeEntries().add(timeEntryMapper.toResponse(timeEntry)));
+            default -> collect(
+                    deletedRecordRepository.findDeletedAfter(after.time(), after.id(), until, page), remaining,
+                    DeletedRecord::getDeletedAt, DeletedRecord::getId,
+                    deleted -> response.getDeleted().add(Tombstone.builder()
+                            .entityType(deleted.getEntityType())
+                            .entityId(deleted.getEntityId())
+                            .deletedAt(deleted.getDeletedAt())
+                            .build()));
+        };
+    }
+
+    /**
+     * Hand up to remaining rows to the sink.
+     * Returns the position of the last one handed over if the type has more rows, otherwise null.
+     */
+    private static <E> StageResult collect(List<E> rows, int remaining,
+                                           Function<E, LocalDateTime> time, Function<E, UUID> id,
+                                           Consumer<E> sink) {
+        int count = Math.min(rows.size(), remaining);
+        for (int i = 0; i < count; i++) {
+            sink.accept(rows.get(i));
+        }
+        if (rows.size() <= remaining) {
+            return new StageResult(count, null);
+        }
+        E last = rows.get(count - 1);
+        return new StageResult(count, new Position(time.apply(last), id.apply(last)));
+    }
+
+    private record Position(LocalDateTime time, UUID id) {
+
+        // Sorts after every row at exactly "from", so the scan starts strictly after it
+        static Position start(LocalDateTime from) {
+            return new Position(from, MAX_ID);
+        }
+    }
+
+    private record StageResult(int count, Position last) {
+    }
+}
@@ -0,0 +1,302 @@
+package dev.juviscript.techdeck.services;
+
+import dev.juviscript.techdeck.dto.projection.ScheduledWindow;
+import dev.juviscript.techdeck.models.Status;
+import dev.juviscript.techdeck.repositories.WorkOrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory index of booked windows per technician.
+ * Each technician has a set of bookings sorted by start time, so "is this slot free?"
+ * is a floor lookup plus a look at the next booking: O(log n).
+ * A booked window is the work order's duration plus the travel buffer that follows it.
+ * <p>
+ * Writes for one technician are serialized by a per-technician lock (ReentrantLock rather than
+ * synchronized, so virtual threads are not pinned); a move holds the locks of both technicians.
+ * Reads are lock-free.
+ * The index is rebuilt from the database on startup and kept current by the work order writes.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TechnicianScheduleIndex {
+
+    private static final UUID MIN_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+    private static final UUID MAX_ID = new UUID(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    private static final Comparator<Booking> BY_START = Comparator
+            .comparing(Booking::start)
+            .thenComparing(Booking::workOrderId);
+
+    private final WorkOrderRepository workOrderRepository;
+
+    @Value("${scheduling.travel-buffer-minutes:30}")
+    private int travelBufferMinutes;
+
+    @Value("${scheduling.lookback-days:1}")
+    private int lookbackDays;
+
+    private final Map<UUID, NavigableSet<Booking>> bookingsByTechnician = new ConcurrentHashMap<>();
+    private final Map<UUID, Booking> bookingsByWorkOrder = new ConcurrentHashMap<>();
+    private final Map<UUID, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    /**
+     * Rebuild the index from assigned, non-canceled work orders
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        bookingsByTechnician.clear();
+        bookingsByWorkOrder.clear();
+
+        LocalDateTime from = LocalDateTime.now().minusDays(lookbackDays);
+        List<ScheduledWindow> windows = workOrderRepository.findScheduledWindows(from, Status.CANCELED);
+        for (ScheduledWindow window : windows) {
+            add(toBooking(window.workOrderId(), window.technicianId(),
+                    window.scheduledDateTime(), window.estimatedDurationMinutes()));
+        }
+        log.info("Technician schedule index rebuilt with {} bookings", windows.size());
+    }
+
+    /**
+     * Check if a technician is free for a job starting at start (travel buffer included)
+     */
+    public boolean isSlotFree(UUID technicianId, LocalDateTime start, int durationMinutes) {
+        return findConflict(technicianId, window(start, durationMinutes), null).isEmpty();
+    }
+
+    /**
+     * Find the next free start times at or after from.
+     * Slots are returned back-to-back: after each free slot the search continues from its end.
+     */
+    public List<LocalDateTime> nextFreeSlots(UUID technicianId, LocalDateTime from, int durationMinutes, int count) {
+        List<LocalDateTime> slots = new ArrayList<>(count);
+        LocalDateTime candidate = from;
+
+        while (slots.size() < count) {
+            Window window = window(candidate, durationMinutes);
+            Optional<Booking> conflict = findConflict(technicianId, window, null);
+            if (conflict.isPresent()) {
+                candidate = conflict.get().end();
+            } else {
+                slots.add(candidate);
+                candidate = window.end();
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Book (or move) a work order for a technician.
+     * Replaces any existing booking of the same work order. Throws ScheduleConflictException
+     * if the window overlaps another booking. If the surrounding transaction rolls back,
+     * the previous booking is restored unless its slot has been booked since.
+     */
+    public void reserve(UUID workOrderId, UUID technicianId, LocalDateTime start, int durationMinutes) {
+        Booking booking = toBooking(workOrderId, technicianId, start, durationMinutes);
+
+        while (true) {
+            Booking previous = bookingsByWorkOrder.get(workOrderId);
+            // A move touches two technicians: lock both, in a stable order
+            List<ReentrantLock> held = lock(technicianId, previous != null ? previous.technicianId() : null);
+            try {
+                if (!Objects.equals(bookingsByWorkOrder.get(workOrderId), previous)) {
+                    continue; // Moved by another request before we got the lock
+                }
+                Optional<Booking> conflict = findConflict(technicianId, new Window(booking.start(), booking.end()), workOrderId);
+                if (conflict.isPresent()) {
+                    throw new ScheduleConflictException("Technician is already booked from "
+                            + conflict.get().start() + " to " + conflict.get().end());
+                }
+                remove(workOrderId);
+                add(booking);
+            } finally {
+                unlock(held);
+            }
+
+            onRollback(() -> restore(workOrderId, booking, previous));
+            return;
+        }
+    }
+
+    /**
+     * Free a work order's booking (unassigned or canceled).
+     * Restored if the surrounding transaction rolls back, unless its slot has been booked since.
+     */
+    public void release(UUID workOrderId) {
+        while (true) {
+            Booking previous = bookingsByWorkOrder.get(workOrderId);
+            if (previous == null) {
+                return;
+            }
+            List<ReentrantLock> held = lock(previous.technicianId(), null);
+            try {
+                if (!previous.equals(bookingsByWorkOrder.get(workOrderId))) {
+                    continue; // Moved by another request before we got the lock
+                }
+                remove(workOrderId);
+            } finally {
+                unlock(held);
+            }
+
+            onRollback(() -> restore(workOrderId, null, previous));
+            return;
+        }
+    }
+
+    /**
+     * Undo a reserve or release whose transaction rolled back: drop the booking it made (if it is
+     * still there) and put back the one it replaced. While the transaction was open the old slot
+     * looked free, so another request may have booked it; then the old booking is not restored,
+     * since the index would otherwise hold a double booking.
+     */
+    private void restore(UUID workOrderId, Booking made, Booking previous) {
+        List<ReentrantLock> held = lock(made != null ? made.technicianId() : null,
+                previous != null ? previous.technicianId() : null);
+        try {
+            Booking current = bookingsByWorkOrder.get(workOrderId);
+            if (!Objects.equals(current, made)) {
+                return; // A later write has replaced it
+            }
+            if (made != null) {
+                remove(workOrderId);
+            }
+            if (previous == null) {
+                return;
+            }
+            Optional<Booking> conflict = findConflict(previous.technicianId(),
+                    new Window(previous.start(), previous.end()), workOrderId);
+            if (conflict.isPresent()) {
+                log.warn("Not restoring booking of work order {} after rollback: its slot was taken by work order {}",
+                        workOrderId, conflict.get().workOrderId());
+                return;
+            }
+            add(previous);
+        } finally {
+            unlock(held);
+        }
+    }
+
+    private Optional<Booking> findConflict(UUID technicianId, Window window, UUID ignoreWorkOrderId) {
+        NavigableSet<Booking> bookings = bookingsByTechnician.get(technicianId);
+        if (bookings == null || bookings.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // The booking that starts at or before the window may still be running
+        Booking before = bookings.floor(new Booking(MAX_ID, technicianId, window.start(), window.start()));
+        if (before != null && !before.workOrderId().equals(ignoreWorkOrderId) && before.end().isAfter(window.start())) {
+            return Optional.of(before);
+        }
+
+        // Any booking that starts inside the window overlaps it
+        for (Booking after : bookings.tailSet(new Booking(MIN_ID, technicianId, window.start(), window.start()), false)) {
+            if (!after.start().isBefore(window.end())) {
+                break;
+            }
+            if (!after.workOrderId().equals(ignoreWorkOrderId)) {
+                return Optional.of(after);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void add(Booking booking) {
+        bookingsByTechnician
+                .computeIfAbsent(booking.technicianId(), id -> new ConcurrentSkipListSet<>(BY_START))
+                .add(booking);
+        bookingsByWorkOrder.put(booking.workOrderId(), booking);
+    }
+
+    private Booking remove(UUID workOrderId) {
+        Booking booking = bookingsByWorkOrder.remove(workOrderId);
+        if (booking != null) {
+            NavigableSet<Booking> bookings = bookingsByTechnician.get(booking.technicianId());
+            if (bookings != null) {
+                bookings.remove(booking);
+            }
+        }
+        return booking;
+    }
+
+    private ReentrantLock lockFor(UUID technicianId) {
+        return locks.computeIfAbsent(technicianId, id -> new ReentrantLock());
+    }
+
+    /**
+     * Lock one or two technicians (nulls are skipped), always in UUID order so two moves
+     * in opposite directions cannot deadlock
+     */
+    private List<ReentrantLock> lock(UUID technicianId, UUID otherTechnicianId) {
+        List<UUID> ids = new ArrayList<>(2);
+        if (technicianId != null) {
+            ids.add(technicianId);
+        }
+        if (otherTechnicianId != null && !otherTechnicianId.equals(technicianId)) {
+            ids.add(otherTechnicianId);
+        }
+        ids.sort(null);
+
+        List<ReentrantLock> held = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            ReentrantLock lock = lockFor(id);
+            lock.lock();
+            held.add(lock);
+        }
+        return held;
+    }
+
+    private static void unlock(List<ReentrantLock> held) {
+        for (int i = held.size() - 1; i >= 0; i--) {
+            held.get(i).unlock();
+        }
+    }
+
+    private Window window(LocalDateTime start, int durationMinutes) {
+        return new Window(start, start.plusMinutes((long) durationMinutes + travelBufferMinutes));
+    }
+
+    private Booking toBooking(UUID workOrderId, UUID technicianId, LocalDateTime start, Integer durationMinutes) {
+        Window window = window(start, durationMinutes != null ? durationMinutes : 0);
+        return new Booking(workOrderId, technicianId, window.start(), window.end());
+    }
+
+    private static void onRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private record Window(LocalDateTime start, LocalDateTime end) {
+    }
+
+    private record Booking(UUID workOrderId, UUID technicianId, LocalDateTime start, LocalDateTime end) {
+    }
+}
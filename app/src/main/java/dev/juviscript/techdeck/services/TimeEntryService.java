@@ -0,0 +1,226 @@
+package dev.juviscript.techdeck.services;
+
+import dev.juviscript.techdeck.dto.projection.ActiveTimer;
+import dev.juviscript.techdeck.dto.projection.SyncedTimeEntry;
+import dev.juviscript.techdeck.dto.request.timeentry.TimeEntrySyncItem;
+import dev.juviscript.techdeck.dto.response.TimeEntrySyncResponse;
+import dev.juviscript.techdeck.dto.response.TimeEntrySyncResponse.Outcome;
+import dev.juviscript.techdeck.dto.response.TimeEntrySyncResponse.Result;
+import dev.juviscript.techdeck.models.EntryType;
+import dev.juviscript.techdeck.models.TimeEntry;
+import dev.juviscript.techdeck.models.User;
+import dev.juviscript.techdeck.repositories.TimeEntryRepository;
+import dev.juviscript.techdeck.repositories.UserRepository;
+import dev.juviscript.techdeck.repositories.WorkOrderRepository;
+import dev.juviscript.techdeck.util.StringUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TimeEntryService {
+
+    private final TimeEntryRepository timeEntryRepository;
+    private final WorkOrderRepository workOrderRepository;
+    private final UserRepository userRepository;
+    private final TimesheetService timesheetService;
+    private final ActiveTimerRegistry activeTimerRegistry;
+
+    /**
+     * Start a timer for the technician on a work order.
+     * A technician has at most one open entry: a running timer is stopped at the same instant
+     * (e.g. switching from TRAVEL to ON_SITE). Two concurrent clock-ins are rejected by the
+     * partial unique index on open entries (DataIntegrityViolationException).
+     * Throws IllegalArgumentException if the work order does not exist.
+     */
+    public TimeEntry clockIn(UUID technicianId, UUID workOrderId, EntryType entryType, String notes) {
+        if (!workOrderRepository.existsById(workOrderId)) {
+            throw new IllegalArgumentException("Work order not found with id: " + workOrderId);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        timeEntryRepository.findOpenByTechnicianId(technicianId).ifPresent(open -> {
+            close(open, now);
+            // Hibernate flushes inserts before updates; the old entry must be closed first for the unique index
+            timeEntryRepository.flush();
+        });
+
+        TimeEntry entry = new TimeEntry();
+        entry.setWorkOrder(workOrderRepository.getReferenceById(workOrderId));
+        entry.setTechnician(userRepository.getReferenceById(technicianId));
+        entry.setEntryType(entryType);
+        entry.setStartTime(now);
+        entry.setNotes(StringUtils.trim(notes));
+        TimeEntry saved = timeEntryRepository.save(entry);
+
+        activeTimerRegistry.started(new ActiveTimer(saved.getId(), technicianId, workOrderId, entryType, now));
+        return saved;
+    }
+
+    /**
+     * Stop the technician's running timer, setting its end time and duration.
+     * The update is checked against the entry's version, so of two concurrent clock-outs only one
+     * succeeds (the other gets an OptimisticLockingFailureException) and the time is counted once.
+     * Throws IllegalStateException if the technician is not clocked in.
+     */
+    public TimeEntry clockOut(UUID technicianId) {
+        TimeEntry open = timeEntryRepository.findOpenByTechnicianId(technicianId)
+                .orElseThrow(() -> new IllegalStateException("Technician is not clocked in"));
+        close(open, LocalDateTime.now());
+        return timeEntryRepository.save(open);
+    }
+
+    /**
+     * Get the technician's running timer (from the in-memory registry)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<ActiveTimer> getActiveTimer(UUID technicianId) {
+        return activeTimerRegistry.get(technicianId);
+    }
+
+    /**
+     * Get every running timer, optionally only of one entry type (from the in-memory registry)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<ActiveTimer> getActiveTimers(EntryType entryType) {
+        List<ActiveTimer> timers = activeTimerRegistry.getAll();
+        if (entryType == null) {
+            return timers;
+        }
+        return timers.stream().filter(timer -> timer.entryType() == entryType).toList();
+    }
+
+    /**
+     * Store a batch of time entries recorded offline by a technician.
+     * Idempotent on clientId: entries already stored (or repeated in the batch) come back as DUPLICATE.
+     * Runs in one transaction with a fixed number of statements before the inserts
+     * (existing client IDs, existing work orders); the inserts themselves go out as JDBC batches.
+     * Entries that arrive already closed are added to the timesheet rollups; an open entry becomes the
+     * technician's running timer (rejected if there already is one).
+     */
+    public TimeEntrySyncResponse syncTimeEntries(UUID technicianId, List<TimeEntrySyncItem> items) {
+        User technician = userRepository.getReferenceById(technicianId);
+
+        Set<UUID> clientIds = new HashSet<>();
+        Set<UUID> workOrderIds = new HashSet<>();
+        for (TimeEntrySyncItem item : items) {
+            clientIds.add(item.getClientId());
+            workOrderIds.add(item.getWorkOrderId());
+        }
+
+        Map<UUID, UUID> storedIds = new HashMap<>();
+        for (SyncedTimeEntry synced : timeEntryRepository.findSyncedByClientIdIn(clientIds)) {
+            storedIds.put(synced.clientId(), synced.id());
+        }
+        Set<UUID> existingWorkOrderIds = new HashSet<>(workOrderRepository.findExistingIds(workOrderIds));
+
+        // Only one open entry per technician; looked up only if the batch contains open entries
+        boolean hasOpenEntry = items.stream().anyMatch(item -> item.getEndTime() == null)
+                && timeEntryRepository.findOpenByTechnicianId(technicianId).isPresent();
+
+        List<Result> results = new ArrayList<>(items.size());
+        Map<UUID, TimeEntry> toInsert = new LinkedHashMap<>();
+        for (TimeEntrySyncItem item : items) {
+            if (storedIds.containsKey(item.getClientId()) || toInsert.containsKey(item.getClientId())) {
+                results.add(result(item, Outcome.DUPLICATE, null));
+                continue;
+            }
+            if (!existingWorkOrderIds.contains(item.getWorkOrderId())) {
+                results.add(result(item, Outcome.REJECTED, "Work order not found with id: " + item.getWorkOrderId()));
+                continue;
+            }
+            if (item.getEndTime() != null && item.getEndTime().isBefore(item.getStartTime())) {
+                results.add(result(item, Outcome.REJECTED, "End time is before start time"));
+                continue;
+            }
+            if (item.getEndTime() == null) {
+                if (hasOpenEntry) {
+                    results.add(result(item, Outcome.REJECTED, "Technician already has an open time entry"));
+                    continue;
+                }
+                hasOpenEntry = true;
+            }
+
+            toInsert.put(item.getClientId(), toEntity(item, technician));
+            results.add(result(item, Outcome.CREATED, null));
+        }
+
+        // New entities with generated UUIDs are persisted without a SELECT, so these are batched inserts
+        for (TimeEntry saved : timeEntryRepository.saveAll(toInsert.values())) {
+            storedIds.put(saved.getClientId(), saved.getId());
+        }
+        timesheetService.recordClosedEntries(toInsert.values());
+        for (TimeEntry entry : toInsert.values()) {
+            if (entry.getEndTime() == null) {
+                activeTimerRegistry.started(new ActiveTimer(entry.getId(), technicianId,
+                        entry.getWorkOrder().getId(), entry.getEntryType(), entry.getStartTime()));
+            }
+        }
+
+        int created = 0;
+        int duplicates = 0;
+        for (Result result : results) {
+            if (result.getOutcome() != Outcome.REJECTED) {
+                result.setId(storedIds.get(result.getClientId()));
+            }
+            if (result.getOutcome() == Outcome.CREATED) {
+                created++;
+            } else if (result.getOutcome() == Outcome.DUPLICATE) {
+                duplicates++;
+            }
+        }
+
+        return TimeEntrySyncResponse.builder()
+                .created(created)
+                .duplicates(duplicates)
+                .rejected(results.size() - created - duplicates)
+                .results(results)
+                .build();
+    }
+
+    private void close(TimeEntry entry, LocalDateTime end) {
+        entry.setEndTime(end);
+        entry.setDurationMinutes((int) Duration.between(entry.getStartTime(), end).toMinutes());
+        timesheetService.recordClosedEntries(List.of(entry));
+        activeTimerRegistry.stopped(entry.getTechnician().getId(), entry.getId());
+    }
+
+    private TimeEntry toEntity(TimeEntrySyncItem item, User technician) {
+        TimeEntry entry = new TimeEntry();
+        entry.setClientId(item.getClientId());
+        entry.setWorkOrder(workOrderRepository.getReferenceById(item.getWorkOrderId()));
+        entry.setTechnician(technician);
+        entry.setEntryType(item.getEntryType());
+        entry.setStartTime(item.getStartTime());
+        entry.setEndTime(item.getEndTime());
+        if (item.getEndTime() != null) {
+            entry.setDurationMinutes((int) Duration.between(item.getStartTime(), item.getEndTime()).toMinutes());
+        }
+        entry.setNotes(StringUtils.trim(item.getNotes()));
+        entry.setSynced(true);
+        return entry;
+    }
+
+    private static Result result(TimeEntrySyncItem item, Outcome outcome, String message) {
+        return Result.builder()
+                .clientId(item.getClientId())
+                .outcome(outcome)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,105 @@
+package dev.juviscript.techdeck.services;
+
+import dev.juviscript.techdeck.dto.projection.TimesheetTotal;
+import dev.juviscript.techdeck.models.EntryType;
+import dev.juviscript.techdeck.models.TimeEntry;
+import dev.juviscript.techdeck.repositories.TimesheetRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Timesheet totals per technician and entry type, by day or by ISO week.
+ * Reads come from the daily rollup table, which is updated in the same transaction
+ * that closes time entries, so reports never scan raw time entries.
+ * Time is counted on the day an entry started.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TimesheetService {
+
+    public static final int MAX_RANGE_DAYS = 366;
+
+    private final TimesheetRollupRepository timesheetRollupRepository;
+
+    public enum TimesheetPeriod {
+        DAY,
+        WEEK
+    }
+
+    /**
+     * Add closed entries (those with an end time) to the daily rollups.
+     * Entries are grouped first, so this is one upsert per technician, day and entry type.
+     * Call once per entry, when it closes.
+     */
+    public void recordClosedEntries(Collection<TimeEntry> entries) {
+        Map<RollupKey, long[]> deltas = new LinkedHashMap<>();
+        for (TimeEntry entry : entries) {
+            if (entry.getEndTime() == null || entry.getDurationMinutes() == null) {
+                continue;
+            }
+            RollupKey key = new RollupKey(
+                    entry.getTechnician().getId(),
+                    entry.getStartTime().toLocalDate(),
+                    entry.getEntryType());
+            long[] delta = deltas.computeIfAbsent(key, k -> new long[2]);
+            delta[0] += entry.getDurationMinutes();
+            delta[1]++;
+        }
+
+        deltas.forEach((key, delta) -> timesheetRollupRepository.addClosedTime(
+                key.technicianId(),
+                key.workDate(),
+                key.entryType().name(),
+                weekStartOf(key.workDate()),
+                delta[0],
+                delta[1]));
+    }
+
+    /**
+     * Totals between from and to (inclusive), for one technician or for all when technicianId is null.
+     * Weekly totals cover the whole weeks containing from and to.
+     * Throws IllegalArgumentException if the range is reversed or longer than MAX_RANGE_DAYS.
+     */
+    @Transactional(readOnly = true)
+    public List<TimesheetTotal> getTotals(TimesheetPeriod period, UUID technicianId, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("to must not be before from");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Range is limited to " + MAX_RANGE_DAYS + " days");
+        }
+
+        if (period == TimesheetPeriod.WEEK) {
+            LocalDate fromWeek = weekStartOf(from);
+            LocalDate toWeek = weekStartOf(to);
+            return technicianId != null
+                    ? timesheetRollupRepository.findWeeklyTotals(technicianId, fromWeek, toWeek)
+                    : timesheetRollupRepository.findWeeklyTotals(fromWeek, toWeek);
+        }
+        return technicianId != null
+                ? timesheetRollupRepository.findDailyTotals(technicianId, from, to)
+                : timesheetRollupRepository.findDailyTotals(from, to);
+    }
+
+    /**
+     * Monday of the ISO week containing date (matches date_trunc('week', ...) in the V8 backfill)
+     */
+    static LocalDate weekStartOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private record RollupKey(UUID technicianId, LocalDate workDate, EntryType entryType) {
+    }
+}
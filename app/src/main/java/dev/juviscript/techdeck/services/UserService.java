@@ -1,7 +1,11 @@
 package dev.juviscript.techdeck.services;
 
+import dev.juviscript.techdeck.dto.projection.UserSummary;
+import dev.juviscript.techdeck.dto.request.user.UpdateUserRequest;
 import dev.juviscript.techdeck.models.User;
 import dev.juviscript.techdeck.repositories.UserRepository;
+import dev.juviscript.techdeck.security.TokenRevocationService;
+import dev.juviscript.techdeck.security.UserDetailsServiceImpl;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -17,6 +21,8 @@ import java.util.UUID;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final TokenRevocationService tokenRevocationService;
+    private final UserDetailsServiceImpl userDetailsService;
 
     /**
      * Get all users
@@ -26,6 +32,14 @@ public class UserService {
         return userRepository.findAll();
     }
 
+    /**
+     * Get summaries of all users (read-only, no password hash)
+     */
+    @Transactional(readOnly = true)
+    public List<UserSummary> getAllUserSummaries() {
+        return userRepository.findSummariesBy();
+    }
+
     /**
      * Get user by ID
      */
@@ -54,21 +68,37 @@ public class UserService {
     }
 
     /**
-     * Update an existing user
+     * Update an existing user: the fields given in the request are applied to the row as it is
+     * now, so e.g. a concurrent deactivation is never undone. Empty if the user does not exist.
+     * Throws PreconditionFailedException if expectedVersion is given and the user has changed since.
      */
-    public User updateUser(UUID id, User updatedUser) {
+    public Optional<User> updateUser(UUID id, UpdateUserRequest request, Long expectedVersion) {
         return userRepository.findById(id)
                 .map(existingUser -> {
-                    existingUser.setFirstName(updatedUser.getFirstName());
-                    existingUser.setLastName(updatedUser.getLastName());
-                    existingUser.setPhoneNumber(updatedUser.getPhoneNumber());
-                    existingUser.setRole(updatedUser.getRole());
-                    existingUser.setActive(updatedUser.isActive());
+                    PreconditionFailedException.checkVersion(expectedVersion, existingUser.getVersion());
+
+                    if (request.getFirstName() != null) {
+                        existingUser.setFirstName(request.getFirstName());
+                    }
+                    if (request.getLastName() != null) {
+                        existingUser.setLastName(request.getLastName());
+                    }
+                    if (request.getPhoneNumber() != null) {
+                        existingUser.setPhoneNumber(request.getPhoneNumber());
+                    }
+                    if (request.getRole() != null) {
+                        existingUser.setRole(request.getRole());
+                    }
+                    if (request.getIsActive() != null) {
+                        existingUser.setActive(request.getIsActive());
+                    }
                     // Note: Email and password updates should be handled separately
                     // with proper validation/verification
-                    return userRepository.save(existingUser);
-                })
-                .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + id));
+                    User savedUser = userRepository.save(existingUser);
+                    tokenRevocationService.evict(id);
+                    userDetailsService.evict(savedUser.getEmail());
+                    return savedUser;
+                });
     }
 
     /**
@@ -79,6 +109,8 @@ public class UserService {
                 .ifPresent(user -> {
                     user.setActive(false);
                     userRepository.save(user);
+                    tokenRevocationService.evict(id);
+                    userDetailsService.evict(user.getEmail());
                 });
     }
 
@@ -114,8 +146,13 @@ public class UserService {
             throw new IllegalArgumentException("Email already in use: " + newEmail);
         }
 
-        // Update email
+        // Update email, drop the cached principal for the old address and re-check tokens issued for it
+        String oldEmail = user.getEmail();
         user.setEmail(newEmail);
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        tokenRevocationService.evict(id);
+        userDetailsService.evict(oldEmail);
+        userDetailsService.evict(newEmail);
+        return savedUser;
     }
 }
\ No newline at end of file
@@ -0,0 +1,388 @@
+package dev.juviscript.techdeck.services;
+
+import dev.juviscript.techdeck.dto.projection.ServiceLineSummary;
+import dev.juviscript.techdeck.dto.projection.WorkOrderTree;
+import dev.juviscript.techdeck.dto.projection.WorkOrderTreeNode;
+import dev.juviscript.techdeck.dto.projection.WorkOrderTreeRow;
+import dev.juviscript.techdeck.dto.projection.WorkOrderTreeTotals;
+import dev.juviscript.techdeck.dto.request.workorder.CreateWorkOrderRequest;
+import dev.juviscript.techdeck.dto.request.workorder.RescheduleWorkOrderRequest;
+import dev.juviscript.techdeck.dto.request.workorder.WorkOrderServiceLineRequest;
+import dev.juviscript.techdeck.dto.response.RepriceResponse;
+import dev.juviscript.techdeck.models.Customer;
+import dev.juviscript.techdeck.models.ServiceLocation;
+import dev.juviscript.techdeck.models.Status;
+import dev.juviscript.techdeck.models.User;
+import dev.juviscript.techdeck.models.WorkOrder;
+import dev.juviscript.techdeck.models.WorkOrderService;
+import dev.juviscript.techdeck.repositories.CustomerRepository;
+import dev.juviscript.techdeck.repositories.ServiceLocationRepository;
+import dev.juviscript.techdeck.repositories.ServiceTypeRepository;
+import dev.juviscript.techdeck.repositories.UserRepository;
+import dev.juviscript.techdeck.repositories.WorkOrderRepository;
+import dev.juviscript.techdeck.repositories.WorkOrderServiceRepository;
+import dev.juviscript.techdeck.services.WorkOrderQuoteEngine.Quote;
+import dev.juviscript.techdeck.util.StringUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Creates and changes work orders.
+ * (Named to avoid clashing with the WorkOrderService entity, which is a service line of a work order.)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class WorkOrderManagementService {
+
+    private static final Set<Status> CLOSED_STATUSES = EnumSet.of(Status.COMPLETED, Status.CANCELED);
+    private static final int REPRICE_CHUNK_SIZE = 500;
+    private static final int REPRICE_CHUNK_ATTEMPTS = 3;
+
+    // Guard for the recursive tree walk; real project trees are a few dozen levels at most
+    static final int MAX_TREE_DEPTH = 256;
+
+    private final WorkOrderRepository workOrderRepository;
+    private final WorkOrderServiceRepository workOrderServiceRepository;
+    private final CustomerRepository customerRepository;
+    private final ServiceLocationRepository serviceLocationRepository;
+    private final UserRepository userRepository;
+    private final ServiceTypeRepository serviceTypeRepository;
+    private final ServiceTypeCatalog serviceTypeCatalog;
+    private final TechnicianScheduleIndex technicianScheduleIndex;
+    private final WorkOrderQuoteEngine quoteEngine;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${scheduling.default-duration-minutes:60}")
+    private int defaultDurationMinutes;
+
+    /**
+     * Get work order by ID (with its service lines)
+     */
+    @Transactional(readOnly = true)
+    public Optional<WorkOrder> getWorkOrderById(UUID id) {
+        return workOrderRepository.findWithServicesById(id);
+    }
+
+    /**
+     * Get the whole job tree around a work order (its root and every descendant) with a rollup
+     * of time, price and status, loaded in one recursive query. Empty if the work order does not exist.
+     */
+    @Transactional(readOnly = true)
+    public Optional<WorkOrderTree> getWorkOrderTree(UUID id) {
+        List<WorkOrderTreeRow> rows = workOrderRepository.findTreeRows(id, MAX_TREE_DEPTH);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<WorkOrderTreeNode> nodes = new ArrayList<>(rows.size());
+        for (WorkOrderTreeRow row : rows) {
+            nodes.add(toTreeNode(row));
+        }
+        return Optional.of(new WorkOrderTree(id, nodes.get(0).workOrderId(), nodes, summarize(nodes)));
+    }
+
+    /**
+     * Create a new work order.
+     * Throws ScheduleConflictException if the technician is already booked for that window.
+     */
+    public WorkOrder createWorkOrder(CreateWorkOrderRequest request) {
+        Customer customer = customerRepository.findById(request.getCustomerId())
+                .orElseThrow(() -> new IllegalArgumentException("Customer not found with id: " + request.getCustomerId()));
+
+        ServiceLocation location = serviceLocationRepository.findById(request.getServiceLocationId())
+                .orElseThrow(() -> new IllegalArgumentException("Service location not found with id: " + request.getServiceLocationId()));
+        if (!location.getCustomer().getId().equals(customer.getId())) {
+            throw new IllegalArgumentException("Service location does not belong to customer: " + customer.getId());
+        }
+
+        WorkOrder workOrder = new WorkOrder();
+        workOrder.setCustomer(customer);
+        workOrder.setServiceLocation(location);
+        workOrder.setStatus(Status.SCHEDULED);
+        workOrder.setScheduledDateTime(request.getScheduledDateTime());
+        workOrder.setDescription(StringUtils.trim(request.getDescription()));
+
+        if (request.getTechnicianId() != null) {
+            workOrder.setAssignedTechnician(findTechnician(request.getTechnicianId()));
+        }
+        if (request.getParentWorkOrderId() != null) {
+            WorkOrder parent = workOrderRepository.findById(request.getParentWorkOrderId())
+                    .orElseThrow(() -> new IllegalArgumentException("Parent work order not found with id: " + request.getParentWorkOrderId()));
+            workOrder.setParentWorkOrder(parent);
+        }
+
+        if (request.getServices() != null) {
+            for (WorkOrderServiceLineRequest lineRequest : request.getServices()) {
+                workOrder.getWorkOrderServices().add(toServiceLine(workOrder, lineRequest));
+            }
+        }
+
+        // An explicit estimate wins over the one calculated from the service lines
+        Quote quote = quoteEngine.quote(workOrder);
+        workOrder.setQuotedPrice(quote.totalPrice());
+        workOrder.setEstimatedDurationMinutes(request.getEstimatedDurationMinutes() != null
+                ? request.getEstimatedDurationMinutes()
+                : durationOf(quote));
+
+        // Persist first so the work order has its ID, then claim the technician's window
+        WorkOrder savedWorkOrder = workOrderRepository.save(workOrder);
+        reserveTechnician(savedWorkOrder);
+        return savedWorkOrder;
+    }
+
+    /**
+     * Add a service line and recalculate the work order's duration and price
+     */
+    public WorkOrder addServiceLine(UUID id, WorkOrderServiceLineRequest request) {
+        WorkOrder workOrder = findOpenWorkOrder(id);
+        workOrder.getWorkOrderServices().add(toServiceLine(workOrder, request));
+        return requote(workOrder);
+    }
+
+    /**
+     * Remove a service line and recalculate the work order's duration and price
+     */
+    public WorkOrder removeServiceLine(UUID id, UUID lineId) {
+        WorkOrder workOrder = findOpenWorkOrder(id);
+        if (!workOrder.getWorkOrderServices().removeIf(line -> line.getId().equals(lineId))) {
+            throw new IllegalArgumentException("Service line not found with id: " + lineId);
+        }
+        return requote(workOrder);
+    }
+
+    /**
+     * Re-price open work orders from the current catalog rates, e.g. after a rate change.
+     * Limited to work orders using serviceTypeId when given. Runs in chunks of two queries
+     * (work orders, then their lines); only orders whose price actually changed are updated.
+     * Durations are left alone so booked schedules do not move.
+     * Each chunk commits in its own transaction, so memory stays bounded and a concurrent edit
+     * only rolls back (and retries) its own chunk. Chunks that keep conflicting are reported as skipped.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RepriceResponse repriceOpenWorkOrders(UUID serviceTypeId) {
+        List<UUID> workOrderIds = serviceTypeId != null
+                ? workOrderRepository.findIdsByStatusNotInAndServiceTypeId(CLOSED_STATUSES, serviceTypeId)
+                : workOrderRepository.findIdsByStatusNotIn(CLOSED_STATUSES);
+
+        TransactionTemplate chunkTransaction = new TransactionTemplate(transactionManager);
+        int repriced = 0;
+        int skipped = 0;
+        for (int from = 0; from < workOrderIds.size(); from += REPRICE_CHUNK_SIZE) {
+            List<UUID> chunk = workOrderIds.subList(from, Math.min(from + REPRICE_CHUNK_SIZE, workOrderIds.size()));
+
+            Integer chunkRepriced = null;
+            for (int attempt = 0; attempt < REPRICE_CHUNK_ATTEMPTS && chunkRepriced == null; attempt++) {
+                try {
+                    chunkRepriced = chunkTransaction.execute(status -> repriceChunk(chunk));
+                } catch (OptimisticLockingFailureException e) {
+                    // Another dispatcher changed one of these work orders; reload the chunk and try again
+                }
+            }
+            if (chunkRepriced != null) {
+                repriced += chunkRepriced;
+            } else {
+                skipped += chunk.size();
+            }
+        }
+
+        return RepriceResponse.builder()
+                .serviceTypeId(serviceTypeId)
+                .scanned(workOrderIds.size())
+                .repriced(repriced)
+                .skipped(skipped)
+                .build();
+    }
+
+    private int repriceChunk(List<UUID> chunk) {
+        Map<UUID, List<ServiceLineSummary>> linesByWorkOrder = workOrderServiceRepository
+                .findLinesByWorkOrderIdIn(chunk)
+                .stream()
+                .collect(Collectors.groupingBy(ServiceLineSummary::workOrderId));
+
+        int repriced = 0;
+        for (WorkOrder workOrder : workOrderRepository.findAllById(chunk)) {
+            Quote quote = quoteEngine.quote(linesByWorkOrder.getOrDefault(workOrder.getId(), List.of()));
+            if (workOrder.getQuotedPrice() == null || workOrder.getQuotedPrice().compareTo(quote.totalPrice()) != 0) {
+                workOrder.setQuotedPrice(quote.totalPrice());
+                repriced++;
+            }
+        }
+        // Flush here so a version conflict surfaces as OptimisticLockingFailureException for this chunk
+        workOrderRepository.flush();
+        return repriced;
+    }
+
+    /**
+     * Move a work order in time, change its duration, or (re)assign its technician.
+     * Throws ScheduleConflictException if the new window overlaps another booking, and
+     * PreconditionFailedException if expectedVersion is given and the work order has changed since.
+     */
+    public WorkOrder rescheduleWorkOrder(UUID id, RescheduleWorkOrderRequest request, Long expectedVersion) {
+        WorkOrder workOrder = findOpenWorkOrder(id);
+        PreconditionFailedException.checkVersion(expectedVersion, workOrder.getVersion());
+
+        if (request.getScheduledDateTime() != null) {
+            workOrder.setScheduledDateTime(request.getScheduledDateTime());
+        }
+        if (request.getEstimatedDurationMinutes() != null) {
+            workOrder.setEstimatedDurationMinutes(request.getEstimatedDurationMinutes());
+        }
+        if (request.isUnassign()) {
+            workOrder.setAssignedTechnician(null);
+        } else if (request.getTechnicianId() != null) {
+            workOrder.setAssignedTechnician(findTechnician(request.getTechnicianId()));
+        }
+
+        if (workOrder.getAssignedTechnician() != null) {
+            reserveTechnician(workOrder);
+        } else {
+            technicianScheduleIndex.release(workOrder.getId());
+        }
+
+        return workOrderRepository.save(workOrder);
+    }
+
+    /**
+     * Cancel a work order and free its technician's time
+     */
+    public WorkOrder cancelWorkOrder(UUID id) {
+        WorkOrder workOrder = workOrderRepository.findWithServicesById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Work order not found with id: " + id));
+
+        workOrder.setStatus(Status.CANCELED);
+        technicianScheduleIndex.release(workOrder.getId());
+        return workOrderRepository.save(workOrder);
+    }
+
+    /**
+     * Check if a technician is free for a job starting at start
+     */
+    @Transactional(readOnly = true)
+    public boolean isTechnicianAvailable(UUID technicianId, LocalDateTime start, int durationMinutes) {
+        return technicianScheduleIndex.isSlotFree(technicianId, start, durationMinutes);
+    }
+
+    /**
+     * Find a technician's next free start times at or after from
+     */
+    @Transactional(readOnly = true)
+    public List<LocalDateTime> findNextFreeSlots(UUID technicianId, LocalDateTime from, int durationMinutes, int count) {
+        return technicianScheduleIndex.nextFreeSlots(technicianId, from, durationMinutes, count);
+    }
+
+    private WorkOrder findOpenWorkOrder(UUID id) {
+        WorkOrder workOrder = workOrderRepository.findWithServicesById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Work order not found with id: " + id));
+        if (CLOSED_STATUSES.contains(workOrder.getStatus())) {
+            throw new IllegalArgumentException("Cannot change a " + workOrder.getStatus() + " work order");
+        }
+        return workOrder;
+    }
+
+    private WorkOrder requote(WorkOrder workOrder) {
+        // Line changes alone do not dirty the work order; touch it so sync clients see the new lines
+        workOrder.setUpdatedAt(LocalDateTime.now());
+
+        Quote quote = quoteEngine.quote(workOrder);
+        workOrder.setQuotedPrice(quote.totalPrice());
+        workOrder.setEstimatedDurationMinutes(durationOf(quote));
+        reserveTechnician(workOrder);
+        return workOrderRepository.save(workOrder);
+    }
+
+    private void reserveTechnician(WorkOrder workOrder) {
+        if (workOrder.getAssignedTechnician() == null) {
+            return;
+        }
+        technicianScheduleIndex.reserve(
+                workOrder.getId(),
+                workOrder.getAssignedTechnician().getId(),
+                workOrder.getScheduledDateTime(),
+                workOrder.getEstimatedDurationMinutes() != null ? workOrder.getEstimatedDurationMinutes() : defaultDurationMinutes
+        );
+    }
+
+    private int durationOf(Quote quote) {
+        return quote.durationMinutes() > 0 ? quote.durationMinutes() : defaultDurationMinutes;
+    }
+
+    private User findTechnician(UUID technicianId) {
+        User technician = userRepository.findById(technicianId)
+                .orElseThrow(() -> new IllegalArgumentException("Technician not found with id: " + technicianId));
+        if (!technician.isActive()) {
+            throw new IllegalArgumentException("Technician is not active: " + technicianId);
+        }
+        return technician;
+    }
+
+    private WorkOrderService toServiceLine(WorkOrder workOrder, WorkOrderServiceLineRequest request) {
+        // Validate against the in-memory catalog, then reference the row without loading it
+        if (serviceTypeCatalog.getById(request.getServiceTypeId()).filter(st -> st.isActive()).isEmpty()) {
+            throw new IllegalArgumentException("Active service type not found with id: " + request.getServiceTypeId());
+        }
+
+        WorkOrderService line = new WorkOrderService();
+        line.setWorkOrder(workOrder);
+        line.setServiceType(serviceTypeRepository.getReferenceById(request.getServiceTypeId()));
+        line.setQuantity(request.getQuantity() != null ? request.getQuantity() : 1);
+        line.setNotes(StringUtils.trim(request.getNotes()));
+        return line;
+    }
+
+    static WorkOrderTreeTotals summarize(List<WorkOrderTreeNode> nodes) {
+        int maxDepth = 0;
+        long estimatedMinutes = 0;
+        long loggedMinutes = 0;
+        BigDecimal quotedPrice = BigDecimal.ZERO;
+        Map<Status, Long> statusCounts = new EnumMap<>(Status.class);
+
+        for (WorkOrderTreeNode node : nodes) {
+            maxDepth = Math.max(maxDepth, node.depth());
+            loggedMinutes += node.loggedMinutes();
+            statusCounts.merge(node.status(), 1L, Long::sum);
+            if (node.status() == Status.CANCELED) {
+                continue; // Canceled work is neither planned time nor quoted money
+            }
+            if (node.estimatedDurationMinutes() != null) {
+                estimatedMinutes += node.estimatedDurationMinutes();
+            }
+            if (node.quotedPrice() != null) {
+                quotedPrice = quotedPrice.add(node.quotedPrice());
+            }
+        }
+        return new WorkOrderTreeTotals(nodes.size(), maxDepth, estimatedMinutes, loggedMinutes, quotedPrice, statusCounts);
+    }
+
+    private static WorkOrderTreeNode toTreeNode(WorkOrderTreeRow row) {
+        return new WorkOrderTreeNode(
+                row.getId(),
+                row.getParentWorkOrderId(),
+                row.getDepth(),
+                Status.valueOf(row.getStatus()),
+                row.getScheduledDateTime(),
+                row.getEstimatedDurationMinutes(),
+                row.getQuotedPrice(),
+                row.getTechnicianId(),
+                row.getLoggedMinutes()
+        );
+    }
+}
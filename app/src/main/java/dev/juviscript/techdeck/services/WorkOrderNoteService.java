@@ -0,0 +1,130 @@
+package dev.juviscript.techdeck.services;
+
+import dev.juviscript.techdeck.dto.projection.WorkOrderNoteSummary;
+import dev.juviscript.techdeck.dto.request.workorder.CreateWorkOrderNoteRequest;
+import dev.juviscript.techdeck.dto.response.PageResponse;
+import dev.juviscript.techdeck.models.Role;
+import dev.juviscript.techdeck.models.User;
+import dev.juviscript.techdeck.models.WorkOrderNote;
+import dev.juviscript.techdeck.repositories.UserRepository;
+import dev.juviscript.techdeck.repositories.WorkOrderNoteRepository;
+import dev.juviscript.techdeck.repositories.WorkOrderRepository;
+import dev.juviscript.techdeck.util.CursorUtils;
+import dev.juviscript.techdeck.util.StringUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Append-only notes timeline of a work order.
+ * Notes are read and written on their own, never through WorkOrder.workOrderNotes.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class WorkOrderNoteService {
+
+    public static final int DEFAULT_PAGE_SIZE = 25;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final WorkOrderNoteRepository workOrderNoteRepository;
+    private final WorkOrderRepository workOrderRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * Get one page of a work order's notes, newest first unless direction is asc.
+     * Internal notes are returned only if the viewer's role may see them (Role.isInternalNotesVisible);
+     * includeInternal false narrows any role to the customer-facing view, it never widens one.
+     * The cursor carries its own direction. Empty if the work order does not exist.
+     * Throws IllegalArgumentException if the cursor or direction is malformed.
+     */
+    @Transactional(readOnly = true)
+    public Optional<PageResponse<WorkOrderNoteSummary>> getTimeline(UUID workOrderId, Role viewerRole,
+                                                                    boolean includeInternal, String direction,
+                                                                    String cursor, Integer size) {
+        if (!workOrderRepository.existsById(workOrderId)) {
+            return Optional.empty();
+        }
+
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        boolean internalVisible = includeInternal && viewerRole != null && viewerRole.isInternalNotesVisible();
+
+        // Fetch one extra row to know if there is another page
+        List<WorkOrderNoteSummary> rows;
+        Sort.Direction sortDirection;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = CursorUtils.decode(cursor, 3);
+            sortDirection = parseDirection(parts[0]);
+            LocalDateTime lastCreatedAt;
+            try {
+                lastCreatedAt = LocalDateTime.parse(parts[1]);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            UUID lastId = UUID.fromString(parts[2]);
+            Pageable limit = PageRequest.of(0, pageSize + 1);
+            rows = sortDirection.isAscending()
+                    ? workOrderNoteRepository.findTimelineAfterAsc(workOrderId, lastCreatedAt, lastId, internalVisible, limit)
+                    : workOrderNoteRepository.findTimelineAfterDesc(workOrderId, lastCreatedAt, lastId, internalVisible, limit);
+        } else {
+            sortDirection = parseDirection(direction);
+            Pageable firstPage = PageRequest.of(0, pageSize + 1, Sort.by(sortDirection, "createdAt", "id"));
+            rows = workOrderNoteRepository.findTimeline(workOrderId, internalVisible, firstPage);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<WorkOrderNoteSummary> items = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            WorkOrderNoteSummary last = items.get(items.size() - 1);
+            nextCursor = CursorUtils.encode(sortDirection.name(), last.createdAt().toString(), last.id().toString());
+        }
+
+        return Optional.of(PageResponse.<WorkOrderNoteSummary>builder()
+                .items(items)
+                .size(pageSize)
+                .hasMore(hasMore)
+                .nextCursor(nextCursor)
+                .build());
+    }
+
+    /**
+     * Append a note to a work order as a single insert: the work order is only referenced, never
+     * loaded with its notes. Returns the note as it appears in the timeline.
+     * Throws IllegalArgumentException if the work order or author does not exist.
+     */
+    public WorkOrderNoteSummary addNote(UUID workOrderId, UUID authorId, CreateWorkOrderNoteRequest request) {
+        if (!workOrderRepository.existsById(workOrderId)) {
+            throw new IllegalArgumentException("Work order not found with id: " + workOrderId);
+        }
+        User author = userRepository.findById(authorId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + authorId));
+
+        WorkOrderNote note = new WorkOrderNote();
+        note.setWorkOrder(workOrderRepository.getReferenceById(workOrderId));
+        note.setCreatedBy(author);
+        note.setNoteContent(StringUtils.trim(request.getNoteContent()));
+        note.setInternal(request.isInternal());
+        WorkOrderNote saved = workOrderNoteRepository.save(note);
+
+        return new WorkOrderNoteSummary(saved.getId(), workOrderId, author.getId(), author.getFirstName(),
+                author.getLastName(), saved.getNoteContent(), saved.isInternal(), saved.getCreatedAt());
+    }
+
+    private Sort.Direction parseDirection(String direction) {
+        if (direction == null || direction.isBlank()) {
+            return Sort.Direction.DESC;
+        }
+        return Sort.Direction.fromString(direction);
+    }
+}
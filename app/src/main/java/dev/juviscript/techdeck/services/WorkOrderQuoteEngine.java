@@ -0,0 +1,76 @@
+package dev.juviscript.techdeck.services;
+
+import dev.juviscript.techdeck.dto.projection.ServiceLineSummary;
+import dev.juviscript.techdeck.models.ServiceType;
+import dev.juviscript.techdeck.models.WorkOrder;
+import dev.juviscript.techdeck.models.WorkOrderService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Calculates a work order's estimated duration and price from its service lines:
+ * the sum of baseDurationInMinutes x quantity and baseRate x quantity.
+ * Rates come from the in-memory service type catalog, and only the service type ID
+ * is read from each line, so a service type row is only loaded if the catalog has not seen it yet.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkOrderQuoteEngine {
+
+    private final ServiceTypeCatalog serviceTypeCatalog;
+
+    /**
+     * Quote a work order from its (already loaded) service lines
+     */
+    public Quote quote(WorkOrder workOrder) {
+        Quote quote = Quote.EMPTY;
+        for (WorkOrderService line : workOrder.getWorkOrderServices()) {
+            // getId() on an uninitialized proxy does not hit the database
+            quote = quote.plus(quoteLine(line.getServiceType().getId(), line.getQuantity()));
+        }
+        return quote;
+    }
+
+    /**
+     * Quote a set of service lines loaded as projections
+     */
+    public Quote quote(Collection<ServiceLineSummary> lines) {
+        Quote quote = Quote.EMPTY;
+        for (ServiceLineSummary line : lines) {
+            quote = quote.plus(quoteLine(line.serviceTypeId(), line.quantity()));
+        }
+        return quote;
+    }
+
+    private Quote quoteLine(UUID serviceTypeId, Integer quantity) {
+        ServiceType serviceType = serviceTypeCatalog.getById(serviceTypeId)
+                .orElseThrow(() -> new IllegalArgumentException("Service type not found with id: " + serviceTypeId));
+
+        int units = quantity != null ? quantity : 1;
+        return new Quote(
+                serviceType.getBaseDurationInMinutes() * units,
+                serviceType.getBaseRate().multiply(BigDecimal.valueOf(units))
+        );
+    }
+
+    /**
+     * Estimated duration in minutes and total price (scale 2)
+     */
+    public record Quote(int durationMinutes, BigDecimal totalPrice) {
+
+        public static final Quote EMPTY = new Quote(0, BigDecimal.ZERO);
+
+        public Quote {
+            totalPrice = totalPrice.setScale(2, RoundingMode.HALF_UP);
+        }
+
+        public Quote plus(Quote other) {
+            return new Quote(durationMinutes + other.durationMinutes, totalPrice.add(other.totalPrice));
+        }
+    }
+}
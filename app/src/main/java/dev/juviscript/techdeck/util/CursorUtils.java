@@ -0,0 +1,46 @@
+package dev.juviscript.techdeck.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Utility class for opaque, URL-safe pagination cursors
+ */
+public class CursorUtils {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorUtils() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Encode cursor parts into a single token
+     * ("createdAt", "2024-01-01T10:00") → "Y3JlYXRlZEF0.MjAyNC0wMS0wMVQxMDowMA"
+     */
+    public static String encode(String... parts) {
+        StringBuilder result = new StringBuilder();
+        for (String part : parts) {
+            if (!result.isEmpty()) result.append('.');
+            result.append(ENCODER.encodeToString(part.getBytes(StandardCharsets.UTF_8)));
+        }
+        return result.toString();
+    }
+
+    /**
+     * Decode a token back into its parts
+     * Throws IllegalArgumentException if the token is malformed or has the wrong number of parts
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        String[] encoded = cursor.split("\\.", -1);
+        if (encoded.length != expectedParts) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        String[] parts = new String[encoded.length];
+        for (int i = 0; i < encoded.length; i++) {
+            parts[i] = new String(DECODER.decode(encoded[i]), StandardCharsets.UTF_8);
+        }
+        return parts;
+    }
+}
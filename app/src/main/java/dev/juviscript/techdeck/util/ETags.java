@@ -0,0 +1,93 @@
+package dev.juviscript.techdeck.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Utility class for version-based entity tags.
+ * A single resource's ETag is its @Version in quotes, e.g. "3".
+ * A resource that embeds child entities appends a hash of their ids and versions, e.g. "3-1f0c…".
+ */
+public class ETags {
+
+    private ETags() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * ETag for an entity version: 3 → "\"3\""
+     */
+    public static String of(Long version) {
+        return "\"" + (version == null ? 0 : version) + "\"";
+    }
+
+    /**
+     * ETag for an entity version plus the ids and versions of the children embedded with it,
+     * so adding, removing or changing a child changes the tag. Child order does not matter.
+     */
+    public static String of(Long version, Map<?, Long> childVersions) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            Map<String, Long> sorted = new TreeMap<>();
+            childVersions.forEach((id, childVersion) -> sorted.put(String.valueOf(id), childVersion));
+            sorted.forEach((id, childVersion) -> {
+                digest.update(id.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) ':');
+                digest.update(String.valueOf(childVersion == null ? 0 : childVersion).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) ';');
+            });
+            return "\"" + (version == null ? 0 : version) + "-" + HexFormat.of().formatHex(digest.digest(), 0, 8) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Check an If-None-Match header (may list several tags, or "*") against the current ETag.
+     * Weak comparison, so W/"3" matches "3".
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Version expected by an If-Match header, or null when there is no precondition (absent or "*").
+     * A composite tag ("3-1f0c…") expects the entity's own version, 3.
+     * Weak or malformed tags can never match a version, so they return -1.
+     */
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            return -1L;
+        }
+        String value = tag.substring(1, tag.length() - 1);
+        int separator = value.indexOf('-');
+        if (separator > 0) {
+            value = value.substring(0, separator);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package dev.juviscript.techdeck.util;
 
+import java.util.Locale;
+
 /**
  * Utility class for string normalization and formatting
+ * These run for every customer and location written (and every row of a bulk import),
+ * so they scan characters directly instead of compiling regexes or splitting into substrings.
  */
 public class StringUtils {
 
@@ -22,9 +26,11 @@ public class StringUtils {
      */
     public static String capitalizeFirst(String value) {
         if (value == null || value.isEmpty()) return value;
-        value = value.trim();
-        if (value.length() == 1) return value.toUpperCase();
-        return value.substring(0, 1).toUpperCase() + value.substring(1).toLowerCase();
+        int start = trimStart(value);
+        int end = trimEnd(value, start);
+        StringBuilder result = new StringBuilder(end - start);
+        appendCapitalized(result, value, start, end);
+        return result.toString();
     }
 
     /**
@@ -33,15 +39,16 @@ public class StringUtils {
      */
     public static String capitalizeWords(String value) {
         if (value == null || value.isEmpty()) return value;
-        String[] words = value.trim().split("\\s+");
-        StringBuilder result = new StringBuilder();
-        for (String word : words) {
-            if (!result.isEmpty()) result.append(" ");
-            if (word.length() == 1) {
-                result.append(word.toUpperCase());
-            } else {
-                result.append(word.substring(0, 1).toUpperCase())
-                        .append(word.substring(1).toLowerCase());
+        int i = trimStart(value);
+        int end = trimEnd(value, i);
+        StringBuilder result = new StringBuilder(end - i);
+        while (i < end) {
+            while (i < end && isWhitespace(value.charAt(i))) i++;
+            int wordStart = i;
+            while (i < end && !isWhitespace(value.charAt(i))) i++;
+            if (wordStart < i) {
+                if (!result.isEmpty()) result.append(' ');
+                appendCapitalized(result, value, wordStart, i);
             }
         }
         return result.toString();
@@ -61,8 +68,12 @@ public class StringUtils {
      */
     public static String normalizePhone(String phone) {
         if (phone == null) return null;
-        String digits = phone.replaceAll("[^0-9]", "");
-        return digits.isEmpty() ? null : digits;
+        StringBuilder digits = new StringBuilder(phone.length());
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (c >= '0' && c <= '9') digits.append(c);
+        }
+        return digits.isEmpty() ? null : digits.toString();
     }
 
     /**
@@ -96,6 +107,76 @@ public class StringUtils {
      */
     public static String normalizeZipCode(String zipCode) {
         if (zipCode == null) return null;
-        return zipCode.trim().replaceAll("[^0-9-]", "");
+        int start = trimStart(zipCode);
+        int end = trimEnd(zipCode, start);
+        StringBuilder result = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            char c = zipCode.charAt(i);
+            if ((c >= '0' && c <= '9') || c == '-') result.append(c);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Append value[from, to) with its first char uppercased and the rest lowercased,
+     * exactly as substring(0, 1).toUpperCase() + substring(1).toLowerCase() would.
+     * ASCII runs are converted in place; anything else goes through String's (locale-aware) case mapping.
+     */
+    private static void appendCapitalized(StringBuilder result, String value, int from, int to) {
+        if (from >= to) return;
+        if (!isAsciiCaseSafe(value, from, to)) {
+            if (to - from == 1) {
+                result.append(value.substring(from, to).toUpperCase());
+            } else {
+                result.append(value.substring(from, from + 1).toUpperCase())
+                        .append(value.substring(from + 1, to).toLowerCase());
+            }
+            return;
+        }
+
+        char first = value.charAt(from);
+        result.append(first >= 'a' && first <= 'z' ? (char) (first - ('a' - 'A')) : first);
+        for (int i = from + 1; i < to; i++) {
+            char c = value.charAt(i);
+            result.append(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+        }
+    }
+
+    /**
+     * True if value[from, to) is plain ASCII and the default locale maps ASCII letters the usual way
+     * (Turkish, Azerbaijani and Lithuanian have special rules for i/I)
+     */
+    private static boolean isAsciiCaseSafe(String value, int from, int to) {
+        String language = Locale.getDefault().getLanguage();
+        if (language.equals("tr") || language.equals("az") || language.equals("lt")) return false;
+        for (int i = from; i < to; i++) {
+            if (value.charAt(i) > 0x7F) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Same characters as the regex \s: space, tab, newline, vertical tab, form feed, carriage return
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+
+    /**
+     * First index String.trim() would keep
+     */
+    private static int trimStart(String value) {
+        int start = 0;
+        while (start < value.length() && value.charAt(start) <= ' ') start++;
+        return start;
+    }
+
+    /**
+     * End index (exclusive) String.trim() would keep
+     */
+    private static int trimEnd(String value, int start) {
+        int end = value.length();
+        while (end > start && value.charAt(end - 1) <= ' ') end--;
+        return end;
     }
 }
@@ -0,0 +1,65 @@
+package dev.juviscript.techdeck.util;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * Utility class for time-ordered UUIDs (version 7, RFC 9562).
+ * Layout: 48-bit Unix milliseconds, version, 12-bit sequence, variant, 62 random bits.
+ * The sequence is seeded randomly each millisecond and incremented within it, so IDs from
+ * this JVM are strictly increasing even when generated in the same millisecond or the
+ * clock steps backwards. Inserts therefore land at the right-hand edge of B-tree indexes
+ * instead of on random pages.
+ */
+public class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final int MAX_SEQUENCE = 0xFFF;
+
+    // Guarded by UuidV7.class
+    private static long lastMillis;
+    private static int sequence;
+
+    private UuidV7() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Generate a UUIDv7 for the current time
+     */
+    public static UUID generate() {
+        return generate(System.currentTimeMillis());
+    }
+
+    static UUID generate(long nowMillis) {
+        long randomBits = RANDOM.nextLong();
+        long millis;
+        int seq;
+
+        synchronized (UuidV7.class) {
+            if (nowMillis > lastMillis) {
+                lastMillis = nowMillis;
+                // Start in the lower half so a busy millisecond rarely runs out
+                sequence = RANDOM.nextInt(MAX_SEQUENCE / 2);
+            } else if (++sequence > MAX_SEQUENCE) {
+                // Sequence exhausted (or clock went back): borrow the next millisecond
+                lastMillis++;
+                sequence = 0;
+            }
+            millis = lastMillis;
+            seq = sequence;
+        }
+
+        long mostSigBits = (millis << 16) | 0x7000L | seq;
+        long leastSigBits = (randomBits & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Unix milliseconds encoded in a UUIDv7
+     */
+    public static long timestampOf(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
@@ -0,0 +1,8 @@
+-- =============================================
+-- Customer name paging on nullable names
+-- =============================================
+
+-- Names can be NULL (bulk import, legacy rows). Name paging sorts and seeks on COALESCE(name, ''),
+-- so index the same expressions to keep those queries on the index
+DROP INDEX IF EXISTS ix_customers_name;
+CREATE INDEX ix_customers_name ON customers ((COALESCE(last_name, '')), (COALESCE(first_name, '')), id);
@@ -0,0 +1,38 @@
+-- =============================================
+-- Large-object note columns to text
+-- =============================================
+
+-- Databases created by Hibernate before migrations existed (baselined at V1) mapped the
+-- former @Lob String fields to oid columns holding large-object references. The entities
+-- now map them as text, so read each referenced object into the column and then free it.
+-- Databases created by V1 already have text columns and are left untouched.
+CREATE TEMPORARY TABLE converted_large_objects (lob OID NOT NULL) ON COMMIT DROP;
+
+DO $$
+DECLARE
+    col RECORD;
+BEGIN
+    FOR col IN
+        SELECT c.table_name, c.column_name
+        FROM information_schema.columns c
+        WHERE c.table_schema = current_schema()
+          AND c.data_type = 'oid'
+          AND (c.table_name, c.column_name) IN (
+              ('customers', 'notes'),
+              ('service_locations', 'access_notes'),
+              ('service_types', 'description'),
+              ('work_orders', 'description'),
+              ('work_order_services', 'notes'),
+              ('work_order_notes', 'note_content'),
+              ('time_entries', 'notes'))
+    LOOP
+        EXECUTE format('INSERT INTO converted_large_objects SELECT %1$I FROM %2$I WHERE %1$I IS NOT NULL',
+                       col.column_name, col.table_name);
+        EXECUTE format('ALTER TABLE %2$I ALTER COLUMN %1$I TYPE TEXT USING convert_from(lo_get(%1$I), ''UTF8'')',
+                       col.column_name, col.table_name);
+    END LOOP;
+
+    PERFORM lo_unlink(l.lob)
+    FROM (SELECT DISTINCT lob FROM converted_large_objects) l
+    WHERE EXISTS (SELECT 1 FROM pg_largeobject_metadata m WHERE m.oid = l.lob);
+END $$;
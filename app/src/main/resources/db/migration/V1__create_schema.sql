@@ -0,0 +1,101 @@
+-- =============================================
+-- TechDeck schema (matches the JPA entities in dev.juviscript.techdeck.models)
+-- =============================================
+
+CREATE TABLE users (
+    id              UUID            PRIMARY KEY,
+    first_name      VARCHAR(255)    NOT NULL,
+    last_name       VARCHAR(255)    NOT NULL,
+    email           VARCHAR(255)    NOT NULL,
+    phone_number    VARCHAR(255),
+    password        VARCHAR(255)    NOT NULL,
+    is_active       BOOLEAN         NOT NULL DEFAULT TRUE,
+    role            VARCHAR(255)    NOT NULL,
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE customers (
+    id              UUID            PRIMARY KEY,
+    first_name      VARCHAR(255),
+    last_name       VARCHAR(255),
+    email           VARCHAR(255),
+    phone_number    VARCHAR(255),
+    notes           TEXT,
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6)
+);
+
+CREATE TABLE service_locations (
+    id              UUID            PRIMARY KEY,
+    customer_id     UUID            NOT NULL REFERENCES customers (id),
+    address_line1   VARCHAR(255)    NOT NULL,
+    address_line2   VARCHAR(255),
+    city            VARCHAR(255)    NOT NULL,
+    state           VARCHAR(255)    NOT NULL,
+    zip_code        VARCHAR(255)    NOT NULL,
+    access_notes    TEXT,
+    is_primary      BOOLEAN         NOT NULL DEFAULT FALSE,
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6)
+);
+
+CREATE TABLE service_types (
+    id                          UUID            PRIMARY KEY,
+    name                        VARCHAR(255)    NOT NULL,
+    description                 TEXT,
+    base_duration_in_minutes    INTEGER         NOT NULL,
+    base_rate                   NUMERIC(10, 2)  NOT NULL,
+    is_active                   BOOLEAN         NOT NULL DEFAULT TRUE,
+    created_at                  TIMESTAMP(6),
+    updated_at                  TIMESTAMP(6)
+);
+
+CREATE TABLE work_orders (
+    id                          UUID            PRIMARY KEY,
+    customer_id                 UUID            NOT NULL REFERENCES customers (id),
+    service_location_id         UUID            NOT NULL REFERENCES service_locations (id),
+    technician_id               UUID            REFERENCES users (id),
+    parent_work_order_id        UUID            REFERENCES work_orders (id),
+    status                      VARCHAR(255)    NOT NULL,
+    scheduled_date_time         TIMESTAMP(6)    NOT NULL,
+    estimated_duration_minutes  INTEGER,
+    description                 TEXT,
+    job_start_time              TIMESTAMP(6),
+    job_end_time                TIMESTAMP(6),
+    created_at                  TIMESTAMP(6),
+    updated_at                  TIMESTAMP(6)
+);
+
+CREATE TABLE work_order_services (
+    id                  UUID            PRIMARY KEY,
+    work_order_id       UUID            NOT NULL REFERENCES work_orders (id),
+    service_type_id     UUID            NOT NULL REFERENCES service_types (id),
+    quantity            INTEGER         NOT NULL DEFAULT 1,
+    notes               TEXT,
+    created_at          TIMESTAMP(6)
+);
+
+CREATE TABLE work_order_notes (
+    id                  UUID            PRIMARY KEY,
+    work_order_id       UUID            NOT NULL REFERENCES work_orders (id),
+    created_by_id       UUID            NOT NULL REFERENCES users (id),
+    note_content        TEXT            NOT NULL,
+    is_internal         BOOLEAN         NOT NULL DEFAULT FALSE,
+    created_at          TIMESTAMP(6)
+);
+
+CREATE TABLE time_entries (
+    id                  UUID            PRIMARY KEY,
+    work_order_id       UUID            NOT NULL REFERENCES work_orders (id),
+    technician_id       UUID            NOT NULL REFERENCES users (id),
+    entry_type          VARCHAR(255)    NOT NULL,
+    start_time          TIMESTAMP(6)    NOT NULL,
+    end_time            TIMESTAMP(6),
+    duration_minutes    INTEGER,
+    notes               TEXT,
+    is_synced           BOOLEAN         NOT NULL DEFAULT TRUE,
+    created_at          TIMESTAMP(6),
+    updated_at          TIMESTAMP(6)
+);
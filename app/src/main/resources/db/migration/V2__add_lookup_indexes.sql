@@ -0,0 +1,43 @@
+-- =============================================
+-- Indexes for every repository lookup path
+-- Kept separate from V1 so databases created before migrations
+-- (baselined at version 1) still pick them up.
+-- =============================================
+
+-- users: findByEmail / existsByEmail, plus case-insensitive uniqueness
+CREATE UNIQUE INDEX ux_users_email_lower ON users (LOWER(email));
+
+-- customers: findByEmail / existsByEmail, plus case-insensitive uniqueness
+CREATE INDEX ix_customers_email ON customers (email);
+CREATE UNIQUE INDEX ux_customers_email_lower ON customers (LOWER(email));
+
+-- customers: keyset paging by name and by creation time
+CREATE INDEX ix_customers_name ON customers (last_name, first_name, id);
+CREATE INDEX ix_customers_created_at ON customers (created_at, id);
+
+-- service_locations: findByCustomerId / findSummariesByCustomerIdIn
+CREATE INDEX ix_service_locations_customer_id ON service_locations (customer_id);
+
+-- service_types: findByName / existsByName, findByIsActiveTrue
+CREATE INDEX ix_service_types_name ON service_types (name);
+CREATE UNIQUE INDEX ux_service_types_name_lower ON service_types (LOWER(name));
+CREATE INDEX ix_service_types_is_active ON service_types (is_active);
+
+-- work_orders: foreign keys and the technician schedule
+CREATE INDEX ix_work_orders_customer_id ON work_orders (customer_id);
+CREATE INDEX ix_work_orders_service_location_id ON work_orders (service_location_id);
+CREATE INDEX ix_work_orders_technician_schedule ON work_orders (technician_id, scheduled_date_time);
+CREATE INDEX ix_work_orders_parent_work_order_id ON work_orders (parent_work_order_id);
+CREATE INDEX ix_work_orders_scheduled_date_time ON work_orders (scheduled_date_time);
+
+-- work_order_services: foreign keys
+CREATE INDEX ix_work_order_services_work_order_id ON work_order_services (work_order_id);
+CREATE INDEX ix_work_order_services_service_type_id ON work_order_services (service_type_id);
+
+-- work_order_notes: timeline per work order, author lookups
+CREATE INDEX ix_work_order_notes_work_order_created ON work_order_notes (work_order_id, created_at, id);
+CREATE INDEX ix_work_order_notes_created_by_id ON work_order_notes (created_by_id);
+
+-- time_entries: foreign keys and per-technician time ranges
+CREATE INDEX ix_time_entries_work_order_id ON time_entries (work_order_id);
+CREATE INDEX ix_time_entries_technician_start ON time_entries (technician_id, start_time);
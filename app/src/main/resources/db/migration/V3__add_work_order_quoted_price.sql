@@ -0,0 +1,8 @@
+-- =============================================
+-- Quoted price of a work order, calculated from its service lines
+-- =============================================
+
+ALTER TABLE work_orders ADD COLUMN quoted_price NUMERIC(10, 2);
+
+-- Open work orders are re-priced in batches after a rate change
+CREATE INDEX ix_work_orders_status ON work_orders (status);
@@ -0,0 +1,8 @@
+-- =============================================
+-- Client-generated IDs for time entries synced from offline devices
+-- =============================================
+
+ALTER TABLE time_entries ADD COLUMN client_id UUID;
+
+-- Dedupes sync retries; NULLs (entries created online) are not compared
+CREATE UNIQUE INDEX ux_time_entries_client_id ON time_entries (client_id);
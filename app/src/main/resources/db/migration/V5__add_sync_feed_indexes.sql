@@ -0,0 +1,25 @@
+-- =============================================
+-- Delta sync feed: keyset scans on (updated_at, id) and tombstones for deletes
+-- =============================================
+
+-- Rows written before @UpdateTimestamp was set on insert would never be picked up
+UPDATE customers SET updated_at = COALESCE(created_at, NOW()) WHERE updated_at IS NULL;
+UPDATE service_locations SET updated_at = COALESCE(created_at, NOW()) WHERE updated_at IS NULL;
+UPDATE service_types SET updated_at = COALESCE(created_at, NOW()) WHERE updated_at IS NULL;
+UPDATE work_orders SET updated_at = COALESCE(created_at, NOW()) WHERE updated_at IS NULL;
+UPDATE time_entries SET updated_at = COALESCE(created_at, NOW()) WHERE updated_at IS NULL;
+
+CREATE INDEX ix_customers_updated_at ON customers (updated_at, id);
+CREATE INDEX ix_service_locations_updated_at ON service_locations (updated_at, id);
+CREATE INDEX ix_service_types_updated_at ON service_types (updated_at, id);
+CREATE INDEX ix_work_orders_updated_at ON work_orders (updated_at, id);
+CREATE INDEX ix_time_entries_updated_at ON time_entries (updated_at, id);
+
+CREATE TABLE deleted_records (
+    id              UUID            PRIMARY KEY,
+    entity_type     VARCHAR(255)    NOT NULL,
+    entity_id       UUID            NOT NULL,
+    deleted_at      TIMESTAMP(6)    NOT NULL
+);
+
+CREATE INDEX ix_deleted_records_deleted_at ON deleted_records (deleted_at, id);
@@ -0,0 +1,17 @@
+-- =============================================
+-- At most one primary service location per customer
+-- =============================================
+
+-- Earlier concurrent updates could leave several primaries; keep the oldest one
+UPDATE service_locations SET is_primary = FALSE, updated_at = NOW()
+WHERE id IN (
+    SELECT id FROM (
+        SELECT id, ROW_NUMBER() OVER (PARTITION BY customer_id ORDER BY created_at NULLS FIRST, id) AS rn
+        FROM service_locations
+        WHERE is_primary
+    ) ranked
+    WHERE rn > 1
+);
+
+-- Partial index: only primary rows are indexed, so it stays one entry per customer
+CREATE UNIQUE INDEX ux_service_locations_primary ON service_locations (customer_id) WHERE is_primary;
@@ -0,0 +1,10 @@
+-- =============================================
+-- Optimistic locking: version columns for @Version on every mutable entity
+-- =============================================
+
+ALTER TABLE customers ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE service_locations ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE service_types ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE work_orders ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE time_entries ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,33 @@
+-- =============================================
+-- Timesheet rollups: closed time per technician, day and entry type
+-- =============================================
+
+CREATE TABLE timesheet_daily_rollups (
+    technician_id   UUID            NOT NULL REFERENCES users (id),
+    work_date       DATE            NOT NULL,
+    entry_type      VARCHAR(255)    NOT NULL,
+    week_start      DATE            NOT NULL,
+    total_minutes   BIGINT          NOT NULL,
+    entry_count     BIGINT          NOT NULL,
+    updated_at      TIMESTAMP(6)    NOT NULL,
+    PRIMARY KEY (technician_id, work_date, entry_type)
+);
+
+-- All-technician reports by day or by week (per-technician reports use the primary key)
+CREATE INDEX ix_timesheet_daily_rollups_work_date ON timesheet_daily_rollups (work_date);
+CREATE INDEX ix_timesheet_daily_rollups_week_start ON timesheet_daily_rollups (week_start);
+
+-- Backfill from entries closed before the rollups existed; time counts on the day it started
+INSERT INTO timesheet_daily_rollups
+    (technician_id, work_date, entry_type, week_start, total_minutes, entry_count, updated_at)
+SELECT technician_id,
+       CAST(start_time AS DATE),
+       entry_type,
+       CAST(DATE_TRUNC('week', start_time) AS DATE),
+       SUM(duration_minutes),
+       COUNT(*),
+       NOW()
+FROM time_entries
+WHERE end_time IS NOT NULL
+  AND duration_minutes IS NOT NULL
+GROUP BY technician_id, CAST(start_time AS DATE), entry_type, CAST(DATE_TRUNC('week', start_time) AS DATE);
@@ -0,0 +1,25 @@
+-- =============================================
+-- At most one open (running) time entry per technician
+-- =============================================
+
+-- Earlier data may have several open entries per technician. Every one except the latest is
+-- closed with zero minutes and flagged in its notes for review: nobody knows when that work
+-- actually stopped, so none of it is guessed into the timesheet rollups.
+WITH ranked AS (
+    SELECT id,
+           ROW_NUMBER() OVER (PARTITION BY technician_id ORDER BY start_time DESC, id DESC) AS position
+    FROM time_entries
+    WHERE end_time IS NULL
+)
+UPDATE time_entries t
+SET end_time = t.start_time,
+    duration_minutes = 0,
+    notes = CONCAT_WS(E'\n', t.notes, '[Needs review: left open and closed with 0 minutes by migration V9]'),
+    updated_at = NOW(),
+    version = t.version + 1
+FROM ranked r
+WHERE t.id = r.id
+  AND r.position > 1;
+
+-- Partial index: only open entries are indexed, so it also serves findOpenByTechnicianId
+CREATE UNIQUE INDEX ux_time_entries_open ON time_entries (technician_id) WHERE end_time IS NULL;
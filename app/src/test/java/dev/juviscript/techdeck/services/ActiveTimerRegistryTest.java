@@ -0,0 +1,71 @@
+package dev.juviscript.techdeck.services;
+
+import dev.juviscript.techdeck.dto.projection.ActiveTimer;
+import dev.juviscript.techdeck.models.EntryType;
+import dev.juviscript.techdeck.repositories.TimeEntryRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ActiveTimerRegistryTest {
+
+    private final TimeEntryRepository repository = mock(TimeEntryRepository.class);
+    private final ActiveTimerRegistry registry = new ActiveTimerRegistry(repository);
+
+    @Test
+    void refreshReplacesTimersWithOpenEntries() {
+        ActiveTimer stale = timer(UUID.randomUUID(), LocalDateTime.now().minusHours(3));
+        registry.started(stale);
+
+        ActiveTimer open = timer(UUID.randomUUID(), LocalDateTime.now().minusHours(1));
+        when(repository.findActiveTimers()).thenReturn(List.of(open));
+        registry.refresh();
+
+        assertThat(registry.getAll()).containsExactly(open);
+        assertThat(registry.get(stale.technicianId())).isEmpty();
+    }
+
+    @Test
+    void stoppingAnOlderEntryKeepsTheNewTimer() {
+        UUID technicianId = UUID.randomUUID();
+        ActiveTimer travel = timer(technicianId, LocalDateTime.now().minusMinutes(40));
+        ActiveTimer onSite = new ActiveTimer(UUID.randomUUID(), technicianId, travel.workOrderId(),
+                EntryType.ON_SITE, LocalDateTime.now());
+
+        registry.started(travel);
+        registry.started(onSite);
+        registry.stopped(technicianId, travel.timeEntryId());
+        assertThat(registry.get(technicianId)).contains(onSite);
+
+        registry.stopped(technicianId, onSite.timeEntryId());
+        assertThat(registry.get(technicianId)).isEmpty();
+    }
+
+    @Test
+    void refreshKeepsChangesCommittedWhileItWasLoading() {
+        ActiveTimer stopping = timer(UUID.randomUUID(), LocalDateTime.now().minusHours(2));
+        registry.started(stopping);
+        ActiveTimer starting = timer(UUID.randomUUID(), LocalDateTime.now());
+
+        // The load still sees the stopped entry as open and misses the new one
+        doAnswer(invocation -> {
+            registry.stopped(stopping.technicianId(), stopping.timeEntryId());
+            registry.started(starting);
+            return List.of(stopping);
+        }).when(repository).findActiveTimers();
+        registry.refresh();
+
+        assertThat(registry.getAll()).containsExactly(starting);
+    }
+
+    private static ActiveTimer timer(UUID technicianId, LocalDateTime start) {
+        return new ActiveTimer(UUID.randomUUID(), technicianId, UUID.randomUUID(), EntryType.TRAVEL, start);
+    }
+}
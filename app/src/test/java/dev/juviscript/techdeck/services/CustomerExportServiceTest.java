@@ -0,0 +1,107 @@
+package dev.juviscript.techdeck.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.juviscript.techdeck.dto.response.CustomerImportResponse;
+import dev.juviscript.techdeck.mappers.CustomerMapper;
+import dev.juviscript.techdeck.models.Customer;
+import dev.juviscript.techdeck.models.ServiceLocation;
+import dev.juviscript.techdeck.repositories.CustomerRepository;
+import dev.juviscript.techdeck.services.CustomerExportService.ExportFormat;
+import dev.juviscript.techdeck.services.CustomerImportService.ImportFormat;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CustomerExportServiceTest {
+
+    private final CustomerRepository repository = mock(CustomerRepository.class);
+    private final ServiceLocationService serviceLocationService = mock(ServiceLocationService.class);
+    private final CustomerExportService exportService = new CustomerExportService(
+            repository,
+            serviceLocationService,
+            new CustomerMapper(),
+            mock(EntityManager.class),
+            new ObjectMapper());
+    private final CustomerImportService importService = new CustomerImportService(
+            repository,
+            new CustomerMapper(),
+            new ObjectMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            mock(PlatformTransactionManager.class));
+
+    @Test
+    void csvExportImportsBackWithNotesAndAccessNotes() throws IOException {
+        Customer withLocations = customer("Jane", "Doe", "jane@example.com", "Prefers mornings,\nask for \"Jan\"");
+        withLocations.getServiceLocations().add(location(withLocations, "1 Main St", "Gate code 1234", true));
+        withLocations.getServiceLocations().add(location(withLocations, "2 Side St", null, false));
+        Customer withoutLocations = customer("John", "Roe", "john@example.com", null);
+        when(repository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(withLocations, withoutLocations));
+        when(serviceLocationService.getByCustomerIds(anyCollection()))
+                .thenReturn(Map.of(withLocations.getId(), withLocations.getServiceLocations()));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportCustomers(ExportFormat.CSV, out);
+
+        List<Customer> imported = new ArrayList<>();
+        when(repository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        doAnswer(invocation -> {
+            imported.addAll(invocation.<Collection<Customer>>getArgument(0));
+            return List.of();
+        }).when(repository).saveAllAndFlush(any());
+        CustomerImportResponse response = importService.importCustomers(ImportFormat.CSV,
+                new ByteArrayInputStream(out.toByteArray()));
+
+        assertThat(response.getErrors()).isEmpty();
+        assertThat(imported).hasSize(2);
+        assertThat(imported.get(0).getNotes()).isEqualTo("Prefers mornings,\nask for \"Jan\"");
+        assertThat(imported.get(0).getServiceLocations())
+                .extracting(ServiceLocation::getAddressLine1, ServiceLocation::getAccessNotes, ServiceLocation::isPrimary)
+                .containsExactly(
+                        tuple("1 Main St", "Gate code 1234", true),
+                        tuple("2 Side St", null, false));
+        assertThat(imported.get(1).getNotes()).isNull();
+        assertThat(imported.get(1).getServiceLocations()).isEmpty();
+    }
+
+    private static Customer customer(String firstName, String lastName, String email, String notes) {
+        Customer customer = new Customer();
+        customer.setId(UUID.randomUUID());
+        customer.setFirstName(firstName);
+        customer.setLastName(lastName);
+        customer.setEmail(email);
+        customer.setNotes(notes);
+        return customer;
+    }
+
+    private static ServiceLocation location(Customer customer, String addressLine1, String accessNotes, boolean primary) {
+        ServiceLocation location = new ServiceLocation();
+        location.setId(UUID.randomUUID());
+        location.setCustomer(customer);
+        location.setAddressLine1(addressLine1);
+        location.setCity("Jacksonville");
+        location.setState("FL");
+        location.setZipCode("32202");
+        location.setAccessNotes(accessNotes);
+        location.setPrimary(primary);
+        return location;
+    }
+}
@@ -0,0 +1,200 @@
+package dev.juviscript.techdeck.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.juviscript.techdeck.dto.response.CustomerImportResponse;
+import dev.juviscript.techdeck.dto.response.CustomerImportResponse.RowError;
+import dev.juviscript.techdeck.mappers.CustomerMapper;
+import dev.juviscript.techdeck.models.Customer;
+import dev.juviscript.techdeck.models.ServiceLocation;
+import dev.juviscript.techdeck.repositories.CustomerRepository;
+import dev.juviscript.techdeck.services.CustomerImportService.ImportFormat;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CustomerImportServiceTest {
+
+    private static final String HEADER = "first_name,last_name,email,address_line_1,city,state,zip_code,is_primary\n";
+
+    private final CustomerRepository repository = mock(CustomerRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final CustomerImportService importService = new CustomerImportService(
+            repository,
+            new CustomerMapper(),
+            new ObjectMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            transactionManager);
+
+    // Every customer handed to saveAllAndFlush in a chunk that was not rolled back
+    private final List<Customer> saved = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        doAnswer(invocation -> {
+            saved.addAll(invocation.<Collection<Customer>>getArgument(0));
+            return List.of();
+        }).when(repository).saveAllAndFlush(any());
+    }
+
+    @Test
+    void consecutiveRowsWithTheSameEmailAreOneCustomer() throws IOException {
+        CustomerImportResponse response = importCsv(HEADER
+                + "Jane,Doe,jane@example.com,1 Main St,Jacksonville,FL,32202,true\n"
+                + "Jane,Doe,JANE@example.com,\"2 Side St, Unit 4\",Jacksonville,FL,32204,false\n"
+                + "John,Roe,john@example.com,3 Oak Ave,Orlando,FL,32801,true\n");
+
+        assertThat(response.getTotalRows()).isEqualTo(2);
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getErrors()).isEmpty();
+        assertThat(saved).hasSize(2);
+        assertThat(saved.get(0).getServiceLocations())
+                .extracting(ServiceLocation::getAddressLine1)
+                .containsExactly("1 Main St", "2 Side St, Unit 4");
+    }
+
+    @Test
+    void sameEmailLaterInTheFileIsADuplicate() throws IOException {
+        CustomerImportResponse response = importCsv(HEADER
+                + "Jane,Doe,jane@example.com,1 Main St,Jacksonville,FL,32202,true\n"
+                + "John,Roe,john@example.com,3 Oak Ave,Orlando,FL,32801,true\n"
+                + "Janet,Doe,Jane@Example.com,9 Elm St,Tampa,FL,33602,true\n");
+
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getErrors()).extracting(RowError::getRow, RowError::getMessage)
+                .containsExactly(tuple(4, "Duplicate email in file"));
+    }
+
+    @Test
+    void emailsAlreadyInTheDatabaseAreRejected() throws IOException {
+        when(repository.findExistingEmails(anyCollection())).thenReturn(List.of("john@example.com"));
+
+        CustomerImportResponse response = importCsv(HEADER
+                + "Jane,Doe,jane@example.com,1 Main St,Jacksonville,FL,32202,true\n"
+                + "John,Roe,John@example.com,3 Oak Ave,Orlando,FL,32801,true\n");
+
+        assertThat(response.getImported()).isEqualTo(1);
+        assertThat(saved).extracting(Customer::getEmail).containsExactly("jane@example.com");
+        assertThat(response.getErrors()).singleElement()
+                .satisfies(error -> {
+                    assertThat(error.getRow()).isEqualTo(3);
+                    assertThat(error.getMessage()).isEqualTo("Email already in use: john@example.com");
+                });
+    }
+
+    @Test
+    void eachChunkCommitsInItsOwnTransaction() throws IOException {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 2500; i++) {
+            csv.append("Jane,Doe,jane").append(i).append("@example.com,1 Main St,Jacksonville,FL,32202,true\n");
+        }
+
+        CustomerImportResponse response = importCsv(csv.toString());
+
+        assertThat(response.getImported()).isEqualTo(2500);
+        verify(transactionManager, times(3)).commit(any());
+        verify(repository, times(3)).saveAllAndFlush(any());
+    }
+
+    @Test
+    void constraintViolationInAChunkIsNarrowedToItsRows() throws IOException {
+        // Created by another request after the email check
+        doAnswer(invocation -> {
+            Collection<Customer> customers = invocation.getArgument(0);
+            if (customers.stream().anyMatch(customer -> customer.getEmail().equals("john@example.com"))) {
+                throw new DataIntegrityViolationException("duplicate key value violates unique constraint");
+            }
+            saved.addAll(customers);
+            return List.of();
+        }).when(repository).saveAllAndFlush(any());
+
+        CustomerImportResponse response = importCsv(HEADER
+                + "Jane,Doe,jane@example.com,1 Main St,Jacksonville,FL,32202,true\n"
+                + "John,Roe,john@example.com,3 Oak Ave,Orlando,FL,32801,true\n"
+                + "Ann,Poe,ann@example.com,5 Pine Rd,Tampa,FL,33602,true\n");
+
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(saved).extracting(Customer::getEmail).containsExactly("jane@example.com", "ann@example.com");
+        assertThat(response.getErrors()).extracting(RowError::getRow, RowError::getMessage)
+                .containsExactly(tuple(3, "Violates a database constraint"));
+        // The whole chunk, then the failing row, were rolled back
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    @Test
+    void invalidRowsAreReportedAndSkipped() throws IOException {
+        CustomerImportResponse response = importCsv(HEADER
+                + ",Doe,jane@example.com,1 Main St,Jacksonville,FL,32202,true\n"
+                + "John,Roe,john@example.com,3 Oak Ave,Orlando,FL,32801,true\n");
+
+        assertThat(response.getImported()).isEqualTo(1);
+        assertThat(response.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getMessage()).isEqualTo("First name is required"));
+    }
+
+    @Test
+    void unterminatedQuoteEndsTheFileAsARowError() throws IOException {
+        CustomerImportResponse response = importCsv(HEADER
+                + "Jane,Doe,jane@example.com,1 Main St,Jacksonville,FL,32202,true\n"
+                + "John,Roe,john@example.com,\"3 Oak Ave,Orlando,FL,32801,true\n");
+
+        assertThat(response.getImported()).isEqualTo(1);
+        assertThat(response.getErrors()).singleElement()
+                .satisfies(error -> {
+                    assertThat(error.getRow()).isEqualTo(3);
+                    assertThat(error.getMessage()).isEqualTo("Unterminated quoted field");
+                });
+    }
+
+    @Test
+    void ndjsonRowsAreDedupedTheSameWay() throws IOException {
+        String ndjson = """
+                {"firstName":"Jane","lastName":"Doe","email":"jane@example.com"}
+                {"firstName":"Jane","lastName":"Doe","email":"JANE@example.com"}
+                not json
+                """;
+
+        CustomerImportResponse response = importService.importCustomers(ImportFormat.NDJSON,
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(response.getImported()).isEqualTo(1);
+        assertThat(response.getErrors()).extracting(RowError::getRow).containsExactly(2, 3);
+        assertThat(response.getErrors().get(1).getMessage()).startsWith("Invalid JSON");
+    }
+
+    @Test
+    void rejectsFilesOverTheRowLimit() {
+        StringBuilder csv = new StringBuilder("email\n");
+        for (int i = 0; i <= CustomerImportService.MAX_ROWS; i++) {
+            csv.append("customer").append(i).append("@example.com\n");
+        }
+
+        assertThatThrownBy(() -> importCsv(csv.toString()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Import is limited to " + CustomerImportService.MAX_ROWS + " customers");
+    }
+
+    private CustomerImportResponse importCsv(String csv) throws IOException {
+        return importService.importCustomers(ImportFormat.CSV, new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+}
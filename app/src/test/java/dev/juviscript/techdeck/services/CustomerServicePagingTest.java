@@ -0,0 +1,81 @@
+package dev.juviscript.techdeck.services;
+
+import dev.juviscript.techdeck.dto.projection.CustomerSummary;
+import dev.juviscript.techdeck.dto.response.PageResponse;
+import dev.juviscript.techdeck.models.Customer;
+import dev.juviscript.techdeck.util.CursorUtils;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import({CustomerService.class, ServiceLocationService.class})
+class CustomerServicePagingTest {
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"asc", "desc"})
+    void namePagingVisitsCustomersWithNullNamesExactlyOnce(String direction) {
+        List<UUID> ids = new ArrayList<>();
+        ids.add(customer("Ada", "Lovelace"));
+        ids.add(customer(null, "Lovelace"));
+        ids.add(customer("Grace", null));
+        ids.add(customer(null, null));
+        ids.add(customer(null, null));
+        ids.add(customer("Alan", "Turing"));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<UUID> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            PageResponse<CustomerSummary> page = customerService.getCustomerPage("name", direction, cursor, null, 2);
+            page.getItems().forEach(customer -> seen.add(customer.id()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(ids);
+        // Missing last names sort as empty, ahead of every real name when ascending
+        List<UUID> nullLastNames = List.of(ids.get(2), ids.get(3), ids.get(4));
+        List<UUID> edge = "asc".equals(direction) ? seen.subList(0, 3) : seen.subList(3, 6);
+        assertThat(edge).containsExactlyInAnyOrderElementsOf(nullLastNames);
+    }
+
+    @Test
+    void rejectsTamperedCursorAsBadRequest() {
+        String cursor = CursorUtils.encode("createdAt", "ASC", "not-a-date", "", UUID.randomUUID().toString());
+
+        assertThatThrownBy(() -> customerService.getCustomerPage(null, null, cursor, null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    private UUID customer(String firstName, String lastName) {
+        Customer customer = new Customer();
+        customer.setFirstName(firstName);
+        customer.setLastName(lastName);
+        customer.setEmail(UUID.randomUUID() + "@example.com");
+        entityManager.persist(customer);
+        return customer.getId();
+    }
+}
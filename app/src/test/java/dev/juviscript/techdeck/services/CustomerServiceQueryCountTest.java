@@ -0,0 +1,177 @@
+package dev.juviscript.techdeck.services;
+
+import dev.juviscript.techdeck.dto.projection.CustomerSummary;
+import dev.juviscript.techdeck.dto.projection.ServiceLocationSummary;
+import dev.juviscript.techdeck.dto.response.CustomerResponse;
+import dev.juviscript.techdeck.dto.response.PageResponse;
+import dev.juviscript.techdeck.mappers.CustomerMapper;
+import dev.juviscript.techdeck.models.Customer;
+import dev.juviscript.techdeck.models.ServiceLocation;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({CustomerService.class, ServiceLocationService.class, CustomerMapper.class})
+class CustomerServiceQueryCountTest {
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private ServiceLocationService serviceLocationService;
+
+    @Autowired
+    private CustomerMapper customerMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 1000})
+    void everyCursorPageLoadsLocationsInTwoQueries(int customerCount) {
+        seedCustomers(customerCount);
+
+        int pages = 0;
+        int customers = 0;
+        String cursor = null;
+        do {
+            statistics.clear();
+            PageResponse<CustomerSummary> page = customerService.getCustomerPage(
+                    "name", "asc", cursor, null, CustomerService.MAX_PAGE_SIZE);
+            Map<UUID, List<ServiceLocationSummary>> locations = serviceLocationService.getSummariesByCustomerIds(
+                    page.getItems().stream().map(CustomerSummary::id).toList());
+
+            assertThat(page.getItems()).allSatisfy(customer -> assertThat(locations.get(customer.id())).hasSize(2));
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+            customers += page.getItems().size();
+            pages++;
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(customers).isEqualTo(customerCount);
+        assertThat(pages).isEqualTo((customerCount + CustomerService.MAX_PAGE_SIZE - 1) / CustomerService.MAX_PAGE_SIZE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 1000})
+    void getCustomerPageLoadsLocationsInTwoQueries(int customerCount) {
+        seedCustomers(customerCount);
+
+        PageResponse<CustomerSummary> page = customerService.getCustomerPage(null, null, null, null, CustomerService.MAX_PAGE_SIZE);
+        List<UUID> customerIds = page.getItems().stream().map(CustomerSummary::id).toList();
+        Map<UUID, List<ServiceLocationSummary>> locations = serviceLocationService.getSummariesByCustomerIds(customerIds);
+        List<CustomerResponse> responses = page
+                .map(customer -> customerMapper.toResponse(customer, locations.get(customer.id())))
+                .getItems();
+
+        assertThat(responses).hasSize(Math.min(customerCount, CustomerService.MAX_PAGE_SIZE));
+        assertThat(responses).allSatisfy(response -> assertThat(response.getServiceLocations()).hasSize(2));
+        // One query for the page, one for all of its locations
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 1000})
+    void getCustomerByIdLoadsLocationsInOneQuery(int customerCount) {
+        List<Customer> customers = seedCustomers(customerCount);
+
+        CustomerResponse response = customerService.getCustomerById(customers.get(customerCount - 1).getId())
+                .map(customerMapper::toResponse)
+                .orElseThrow();
+
+        assertThat(response.getServiceLocations()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 100, 1000})
+    void makingLocationPrimaryUsesConstantStatements(int locationCount) {
+        Customer customer = new Customer();
+        customer.setFirstName("First");
+        customer.setLastName("Last");
+        customer.setEmail("commercial@example.com");
+        for (int i = 0; i < locationCount; i++) {
+            ServiceLocation location = location(customer, i + " Main Street");
+            location.setPrimary(i == 0);
+            customer.getServiceLocations().add(location);
+        }
+        entityManager.persist(customer);
+        entityManager.flush();
+        UUID newPrimaryId = customer.getServiceLocations().get(locationCount - 1).getId();
+        entityManager.clear();
+        statistics.clear();
+
+        ServiceLocation changes = new ServiceLocation();
+        changes.setPrimary(true);
+        ServiceLocation updated = serviceLocationService.update(newPrimaryId, changes, null);
+
+        assertThat(updated.isPrimary()).isTrue();
+        // Load, clear the old primary, set the new one, reload
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(serviceLocationService.getByCustomerId(customer.getId()))
+                .filteredOn(ServiceLocation::isPrimary)
+                .extracting(ServiceLocation::getId)
+                .containsExactly(newPrimaryId);
+    }
+
+    /**
+     * Persist customers with two locations each, then detach everything and reset the counters
+     */
+    private List<Customer> seedCustomers(int count) {
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Customer customer = new Customer();
+            customer.setFirstName("First" + i);
+            customer.setLastName("Last" + i);
+            customer.setEmail("customer" + i + "@example.com");
+            customer.getServiceLocations().add(location(customer, "1 Main Street"));
+            customer.getServiceLocations().add(location(customer, "2 Side Street"));
+            entityManager.persist(customer);
+            customers.add(customer);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        return customers;
+    }
+
+    private ServiceLocation location(Customer customer, String addressLine1) {
+        ServiceLocation location = new ServiceLocation();
+        location.setCustomer(customer);
+        location.setAddressLine1(addressLine1);
+        location.setCity("Jacksonville");
+        location.setState("FL");
+        location.setZipCode("32202");
+        return location;
+    }
+}
@@ -0,0 +1,77 @@
+package dev.juviscript.techdeck.services;
+
+import dev.juviscript.techdeck.models.ServiceType;
+import dev.juviscript.techdeck.repositories.ServiceTypeRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ServiceTypeCatalogTest {
+
+    private final ServiceTypeRepository repository = mock(ServiceTypeRepository.class);
+    private final ServiceTypeCatalog catalog = new ServiceTypeCatalog(repository);
+
+    @Test
+    void refreshLoadedBeforeACommitDoesNotUndoIt() {
+        UUID id = UUID.randomUUID();
+        when(repository.findAll()).thenReturn(List.of(serviceType(id, "Inspection", 0L)));
+        catalog.refresh();
+
+        // Committed (and applied) while the next refresh was still reading the old row
+        ServiceType renamed = serviceType(id, "Annual Inspection", 1L);
+        ServiceType added = serviceType(UUID.randomUUID(), "Repair", 0L);
+        catalog.put(renamed);
+        catalog.put(added);
+        catalog.refresh();
+
+        assertThat(catalog.getById(id)).get().extracting(ServiceType::getName).isEqualTo("Annual Inspection");
+        assertThat(catalog.getById(added.getId())).isPresent();
+    }
+
+    @Test
+    void refreshPicksUpNewerVersionsAndStaleWritesAreIgnored() {
+        UUID id = UUID.randomUUID();
+        when(repository.findAll()).thenReturn(List.of(serviceType(id, "Inspection", 0L)));
+        catalog.refresh();
+
+        when(repository.findAll()).thenReturn(List.of(serviceType(id, "Safety Inspection", 2L)));
+        catalog.refresh();
+        catalog.put(serviceType(id, "Annual Inspection", 1L));
+
+        assertThat(catalog.getById(id)).get().extracting(ServiceType::getName).isEqualTo("Safety Inspection");
+    }
+
+    @Test
+    void missFallsBackToTheDatabaseAndIsKept() {
+        when(repository.findAll()).thenReturn(List.of());
+        catalog.refresh();
+
+        // Created on another instance after the refresh
+        ServiceType created = serviceType(UUID.randomUUID(), "Repair", 0L);
+        when(repository.findById(created.getId())).thenReturn(Optional.of(created));
+
+        assertThat(catalog.getById(created.getId())).get().extracting(ServiceType::getName).isEqualTo("Repair");
+        assertThat(catalog.getAll()).extracting(ServiceType::getId).containsExactly(created.getId());
+        assertThat(catalog.getById(UUID.randomUUID())).isEmpty();
+        verify(repository, times(1)).findById(created.getId());
+    }
+
+    private static ServiceType serviceType(UUID id, String name, Long version) {
+        ServiceType serviceType = new ServiceType();
+        serviceType.setId(id);
+        serviceType.setName(name);
+        serviceType.setBaseDurationInMinutes(60);
+        serviceType.setBaseRate(new BigDecimal("100.00"));
+        serviceType.setVersion(version);
+        return serviceType;
+    }
+}
@@ -0,0 +1,262 @@
+package dev.juviscript.techdeck.services;
+
+import dev.juviscript.techdeck.dto.response.CustomerResponse;
+import dev.juviscript.techdeck.dto.response.ServiceTypeResponse;
+import dev.juviscript.techdeck.dto.response.SyncChangesResponse;
+import dev.juviscript.techdeck.dto.response.SyncChangesResponse.Tombstone;
+import dev.juviscript.techdeck.mappers.CustomerMapper;
+import dev.juviscript.techdeck.mappers.ServiceTypeMapper;
+import dev.juviscript.techdeck.mappers.TimeEntryMapper;
+import dev.juviscript.techdeck.mappers.WorkOrderMapper;
+import dev.juviscript.techdeck.models.Customer;
+import dev.juviscript.techdeck.models.DeletedRecord;
+import dev.juviscript.techdeck.models.ServiceType;
+import dev.juviscript.techdeck.models.SyncEntityType;
+import dev.juviscript.techdeck.repositories.CustomerRepository;
+import dev.juviscript.techdeck.repositories.DeletedRecordRepository;
+import dev.juviscript.techdeck.repositories.ServiceLocationRepository;
+import dev.juviscript.techdeck.repositories.ServiceTypeRepository;
+import dev.juviscript.techdeck.repositories.TimeEntryRepository;
+import dev.juviscript.techdeck.repositories.WorkOrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SyncServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 3, 4, 8, 0);
+
+    // Ordered the way PostgreSQL compares uuid values (unsigned, byte by byte)
+    private static final Comparator<UUID> UUID_ORDER = (a, b) -> {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    };
+
+    private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+    private final ServiceTypeRepository serviceTypeRepository = mock(ServiceTypeRepository.class);
+    private final DeletedRecordRepository deletedRecordRepository = mock(DeletedRecordRepository.class);
+    private final SyncService syncService = new SyncService(
+            customerRepository,
+            mock(ServiceLocationRepository.class),
+            serviceTypeRepository,
+            mock(WorkOrderRepository.class),
+            mock(TimeEntryRepository.class),
+            deletedRecordRepository,
+            new CustomerMapper(),
+            new ServiceTypeMapper(),
+            mock(WorkOrderMapper.class),
+            new TimeEntryMapper());
+
+    private final List<Customer> customers = new ArrayList<>();
+    private final List<ServiceType> serviceTypes = new ArrayList<>();
+    private final List<DeletedRecord> tombstones = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(syncService, "safetyWindowSeconds", 5L);
+        when(deletedRecordRepository.findOldestWritingTransactionStart()).thenReturn(Optional.empty());
+        when(customerRepository.findChangedAfter(any(), any(), any(), any()))
+                .thenAnswer(keyset(customers, Customer::getUpdatedAt, Customer::getId));
+        when(serviceTypeRepository.findChangedAfter(any(), any(), any(), any()))
+                .thenAnswer(keyset(serviceTypes, ServiceType::getUpdatedAt, ServiceType::getId));
+        when(deletedRecordRepository.findDeletedAfter(any(), any(), any(), any()))
+                .thenAnswer(keyset(tombstones, DeletedRecord::getDeletedAt, DeletedRecord::getId));
+
+        // Ties on the timestamp, including ids with the high bit set, so the keyset has to fall back to the id
+        customers.add(customer(T0, "00000000-0000-0000-0000-000000000001"));
+        customers.add(customer(T0.plusMinutes(1), "80000000-0000-0000-0000-000000000000"));
+        customers.add(customer(T0.plusMinutes(1), "7fffffff-ffff-ffff-ffff-ffffffffffff"));
+        customers.add(customer(T0.plusMinutes(2), "ffffffff-ffff-ffff-ffff-fffffffffffe"));
+        serviceTypes.add(serviceType(T0.plusSeconds(30), "00000000-0000-0000-0000-000000000002"));
+        serviceTypes.add(serviceType(T0.plusSeconds(30), "c0000000-0000-0000-0000-000000000000"));
+        serviceTypes.add(serviceType(T0.plusMinutes(3), "00000000-0000-0000-0000-000000000003"));
+        tombstones.add(tombstone(T0.plusMinutes(1), "00000000-0000-0000-0000-000000000004"));
+        tombstones.add(tombstone(T0.plusMinutes(1), "f0000000-0000-0000-0000-000000000000"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 9, 10})
+    void pagingAcrossStagesReturnsEveryChangeExactlyOnce(int limit) {
+        List<UUID> returned = new ArrayList<>();
+        SyncChangesResponse page = syncService.getChanges(null, null, limit);
+        LocalDateTime highWaterMark = page.getHighWaterMark();
+        int pages = 1;
+        returned.addAll(ids(page));
+        while (page.isHasMore()) {
+            assertThat(ids(page)).hasSize(limit);
+            page = syncService.getChanges(null, page.getNextCursor(), limit);
+            assertThat(page.getHighWaterMark()).isEqualTo(highWaterMark);
+            returned.addAll(ids(page));
+            pages++;
+        }
+
+        // Each stage in (updatedAt, id) order, stages one after another
+        assertThat(returned).containsExactlyElementsOf(expectedOrder());
+        assertThat(pages).isEqualTo(Math.max(1, (9 + limit - 1) / limit));
+    }
+
+    @Test
+    void incrementalSyncStartsStrictlyAfterSince() {
+        // Everything at exactly "since" was sent by the previous sync (its mark is inclusive),
+        // whatever the id, so the scan starts after the largest possible id at that time
+        LocalDateTime since = T0.plusMinutes(1);
+
+        List<UUID> returned = new ArrayList<>();
+        SyncChangesResponse page = syncService.getChanges(since, null, 2);
+        returned.addAll(ids(page));
+        while (page.isHasMore()) {
+            page = syncService.getChanges(null, page.getNextCursor(), 2);
+            returned.addAll(ids(page));
+        }
+
+        assertThat(returned).containsExactly(
+                UUID.fromString("ffffffff-ffff-ffff-ffff-fffffffffffe"),
+                UUID.fromString("00000000-0000-0000-0000-000000000003"));
+    }
+
+    @Test
+    void pageEndingOnAStageBoundaryContinuesWithTheNextStage() {
+        SyncChangesResponse first = syncService.getChanges(null, null, 4);
+
+        assertThat(first.getCustomers()).hasSize(4);
+        assertThat(first.isHasMore()).isTrue();
+
+        SyncChangesResponse second = syncService.getChanges(null, first.getNextCursor(), 4);
+
+        assertThat(second.getCustomers()).isEmpty();
+        assertThat(second.getServiceTypes()).extracting(ServiceTypeResponse::getId)
+                .containsExactlyElementsOf(serviceTypes.stream().map(ServiceType::getId).toList());
+        assertThat(second.getDeleted()).hasSize(1);
+    }
+
+    @Test
+    void tombstonesComeLastInDeletionOrder() {
+        SyncChangesResponse page = syncService.getChanges(null, null, 100);
+
+        assertThat(page.isHasMore()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.getDeleted()).extracting(Tombstone::getEntityId)
+                .containsExactly(tombstones.get(0).getEntityId(), tombstones.get(1).getEntityId());
+        assertThat(page.getDeleted()).allSatisfy(tombstone ->
+                assertThat(tombstone.getEntityType()).isEqualTo(SyncEntityType.CUSTOMER));
+    }
+
+    @Test
+    void highWaterMarkStopsBeforeTheOldestOpenWritingTransaction() {
+        // A transaction that started at T0 + 90s is still writing; anything it stamps is after that
+        LocalDateTime oldestStart = T0.plusSeconds(90);
+        when(deletedRecordRepository.findOldestWritingTransactionStart())
+                .thenReturn(Optional.of(oldestStart.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+
+        SyncChangesResponse page = syncService.getChanges(null, null, 100);
+
+        assertThat(page.getHighWaterMark()).isEqualTo(oldestStart.minusSeconds(5));
+        assertThat(page.getCustomers()).extracting(CustomerResponse::getUpdatedAt)
+                .allSatisfy(updatedAt -> assertThat(updatedAt).isBeforeOrEqualTo(page.getHighWaterMark()));
+
+        // It commits a row stamped before now; the next sync from the mark still gets it
+        Customer committedLate = customer(T0.plusSeconds(100), "00000000-0000-0000-0000-000000000005");
+        customers.add(committedLate);
+        when(deletedRecordRepository.findOldestWritingTransactionStart()).thenReturn(Optional.empty());
+
+        SyncChangesResponse next = syncService.getChanges(page.getHighWaterMark(), null, 100);
+
+        assertThat(next.getCustomers()).extracting(CustomerResponse::getId).contains(committedLate.getId());
+    }
+
+    @Test
+    void withoutOpenTransactionsTheMarkIsNowMinusTheSafetyWindow() {
+        LocalDateTime before = LocalDateTime.now().minusSeconds(5);
+
+        SyncChangesResponse page = syncService.getChanges(null, null, 100);
+
+        assertThat(page.getHighWaterMark()).isBetween(before, LocalDateTime.now().minusSeconds(5));
+    }
+
+    private List<UUID> expectedOrder() {
+        List<UUID> expected = new ArrayList<>();
+        expected.addAll(sorted(customers, Customer::getUpdatedAt, Customer::getId));
+        expected.addAll(sorted(serviceTypes, ServiceType::getUpdatedAt, ServiceType::getId));
+        expected.addAll(sorted(tombstones, DeletedRecord::getDeletedAt, DeletedRecord::getEntityId));
+        return expected;
+    }
+
+    private static List<UUID> ids(SyncChangesResponse page) {
+        List<UUID> ids = new ArrayList<>();
+        page.getCustomers().forEach(customer -> ids.add(customer.getId()));
+        page.getServiceTypes().forEach(serviceType -> ids.add(serviceType.getId()));
+        page.getDeleted().forEach(tombstone -> ids.add(tombstone.getEntityId()));
+        return ids;
+    }
+
+    private static <E> List<UUID> sorted(List<E> rows, Function<E, LocalDateTime> time, Function<E, UUID> id) {
+        return rows.stream()
+                .sorted(Comparator.comparing(time).thenComparing(id, UUID_ORDER))
+                .map(id)
+                .toList();
+    }
+
+    /**
+     * Stands in for the findChangedAfter queries: rows after (afterTime, afterId) up to until,
+     * in (time, id) order, limited to the page size
+     */
+    private static <E> Answer<List<E>> keyset(List<E> rows, Function<E, LocalDateTime> time, Function<E, UUID> id) {
+        return invocation -> {
+            LocalDateTime afterTime = invocation.getArgument(0);
+            UUID afterId = invocation.getArgument(1);
+            LocalDateTime until = invocation.getArgument(2);
+            Pageable page = invocation.getArgument(3);
+            return rows.stream()
+                    .filter(row -> time.apply(row).isAfter(afterTime)
+                            || (time.apply(row).isEqual(afterTime) && UUID_ORDER.compare(id.apply(row), afterId) > 0))
+                    .filter(row -> !time.apply(row).isAfter(until))
+                    .sorted(Comparator.comparing(time).thenComparing(id, UUID_ORDER))
+                    .limit(page.getPageSize())
+                    .toList();
+        };
+    }
+
+    private static Customer customer(LocalDateTime updatedAt, String id) {
+        Customer customer = new Customer();
+        customer.setId(UUID.fromString(id));
+        customer.setFirstName("First");
+        customer.setLastName("Last");
+        customer.setEmail(id + "@example.com");
+        customer.setUpdatedAt(updatedAt);
+        return customer;
+    }
+
+    private static ServiceType serviceType(LocalDateTime updatedAt, String id) {
+        ServiceType serviceType = new ServiceType();
+        serviceType.setId(UUID.fromString(id));
+        serviceType.setName("Service " + id);
+        serviceType.setUpdatedAt(updatedAt);
+        return serviceType;
+    }
+
+    // Tombstone id and entity id are the same here, so the expected order can be read off the entity ids
+    private static DeletedRecord tombstone(LocalDateTime deletedAt, String id) {
+        DeletedRecord deleted = new DeletedRecord(SyncEntityType.CUSTOMER, UUID.fromString(id));
+        deleted.setId(UUID.fromString(id));
+        deleted.setDeletedAt(deletedAt);
+        return deleted;
+    }
+}
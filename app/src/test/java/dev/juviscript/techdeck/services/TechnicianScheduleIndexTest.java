@@ -0,0 +1,154 @@
+package dev.juviscript.techdeck.services;
+
+import dev.juviscript.techdeck.dto.projection.ScheduledWindow;
+import dev.juviscript.techdeck.models.Status;
+import dev.juviscript.techdeck.repositories.WorkOrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Loads 50 technicians x 2000 jobs (100k bookings) and checks the answers stay correct at that size.
+ * Jobs are 60 minutes with a 30 minute travel buffer, booked every 2 hours from a fixed start.
+ */
+class TechnicianScheduleIndexTest {
+
+    private static final int TECHNICIANS = 50;
+    private static final int JOBS_PER_TECHNICIAN = 2000;
+    private static final LocalDateTime START = LocalDateTime.now().plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
+
+    private final List<UUID> technicianIds = new ArrayList<>();
+    private TechnicianScheduleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        List<ScheduledWindow> windows = new ArrayList<>();
+        for (int t = 0; t < TECHNICIANS; t++) {
+            UUID technicianId = UUID.randomUUID();
+            technicianIds.add(technicianId);
+            for (int j = 0; j < JOBS_PER_TECHNICIAN; j++) {
+                windows.add(new ScheduledWindow(UUID.randomUUID(), technicianId, START.plusHours(2L * j), 60));
+            }
+        }
+
+        WorkOrderRepository repository = mock(WorkOrderRepository.class);
+        when(repository.findScheduledWindows(any(LocalDateTime.class), eq(Status.CANCELED))).thenReturn(windows);
+
+        index = new TechnicianScheduleIndex(repository);
+        ReflectionTestUtils.setField(index, "travelBufferMinutes", 30);
+        ReflectionTestUtils.setField(index, "lookbackDays", 1);
+        index.rebuild();
+    }
+
+    @Test
+    void detectsOverlapWithRunningAndFollowingJobs() {
+        UUID technicianId = technicianIds.get(TECHNICIANS / 2);
+        LocalDateTime job = START.plusHours(2L * (JOBS_PER_TECHNICIAN / 2));
+
+        assertThat(index.isSlotFree(technicianId, job, 15)).isFalse();              // same start
+        assertThat(index.isSlotFree(technicianId, job.plusMinutes(80), 10)).isFalse(); // inside the travel buffer
+        assertThat(index.isSlotFree(technicianId, job.minusMinutes(20), 30)).isFalse(); // runs into the next job
+        assertThat(index.isSlotFree(technicianId, job.plusMinutes(90), 0)).isTrue();  // gap before the next job
+        assertThat(index.isSlotFree(UUID.randomUUID(), job, 60)).isTrue();             // unknown technician
+    }
+
+    @Test
+    void nextFreeSlotsSkipsPastBookedJobs() {
+        UUID technicianId = technicianIds.get(0);
+
+        // Gaps are 30 minutes, so a 30 minute job (60 with buffer) never fits until the schedule ends
+        List<LocalDateTime> slots = index.nextFreeSlots(technicianId, START, 30, 3);
+
+        LocalDateTime endOfSchedule = START.plusHours(2L * (JOBS_PER_TECHNICIAN - 1)).plusMinutes(90);
+        assertThat(slots).containsExactly(endOfSchedule, endOfSchedule.plusMinutes(60), endOfSchedule.plusMinutes(120));
+    }
+
+    @Test
+    void reserveRejectsConflictsAndMovesBookings() {
+        UUID technicianId = technicianIds.get(1);
+        UUID workOrderId = UUID.randomUUID();
+        LocalDateTime gap = START.plusMinutes(90);
+
+        assertThatThrownBy(() -> index.reserve(workOrderId, technicianId, START.plusMinutes(30), 30))
+                .isInstanceOf(ScheduleConflictException.class);
+
+        index.reserve(workOrderId, technicianId, gap, 0);
+        assertThat(index.isSlotFree(technicianId, gap, 0)).isFalse();
+
+        // Re-reserving the same work order does not conflict with itself, moving it frees the old gap
+        index.reserve(workOrderId, technicianId, gap, 0);
+        index.reserve(workOrderId, technicianId, gap.plusHours(2), 0);
+        assertThat(index.isSlotFree(technicianId, gap, 0)).isTrue();
+        assertThat(index.isSlotFree(technicianId, gap.plusHours(2), 0)).isFalse();
+
+        index.release(workOrderId);
+        assertThat(index.isSlotFree(technicianId, gap.plusHours(2), 0)).isTrue();
+    }
+
+    @Test
+    void rolledBackMoveRestoresTheOldBooking() {
+        UUID from = technicianIds.get(2);
+        UUID to = technicianIds.get(3);
+        UUID workOrderId = UUID.randomUUID();
+        LocalDateTime gap = START.plusMinutes(90);
+        index.reserve(workOrderId, from, gap, 0);
+
+        rollBack(() -> index.reserve(workOrderId, to, gap, 0), () -> { });
+
+        assertThat(index.isSlotFree(from, gap, 0)).isFalse();
+        assertThat(index.isSlotFree(to, gap, 0)).isTrue();
+    }
+
+    @Test
+    void rolledBackMoveDoesNotDoubleBookASlotTakenMeanwhile() {
+        UUID technicianId = technicianIds.get(4);
+        UUID moved = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        LocalDateTime gap = START.plusMinutes(90);
+        index.reserve(moved, technicianId, gap, 0);
+
+        // While the move is uncommitted, another request books the freed slot
+        rollBack(() -> index.reserve(moved, technicianId, gap.plusHours(2), 0),
+                () -> index.reserve(other, technicianId, gap, 0));
+
+        // The slot stays with the other work order and the move itself is undone
+        assertThat(index.isSlotFree(technicianId, gap.plusHours(2), 0)).isTrue();
+        assertThatThrownBy(() -> index.reserve(UUID.randomUUID(), technicianId, gap, 0))
+                .isInstanceOf(ScheduleConflictException.class);
+        index.release(other);
+        assertThat(index.isSlotFree(technicianId, gap, 0)).isTrue();
+    }
+
+    /**
+     * Run inTransaction with transaction synchronization active, then run committedMeanwhile
+     * outside of it (another request), then complete the transaction as rolled back
+     */
+    private static void rollBack(Runnable inTransaction, Runnable committedMeanwhile) {
+        List<TransactionSynchronization> synchronizations;
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            inTransaction.run();
+            synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        committedMeanwhile.run();
+        synchronizations.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    }
+}
@@ -0,0 +1,221 @@
+package dev.juviscript.techdeck.services;
+
+import dev.juviscript.techdeck.dto.projection.ActiveTimer;
+import dev.juviscript.techdeck.dto.projection.SyncedTimeEntry;
+import dev.juviscript.techdeck.dto.request.timeentry.SyncTimeEntriesRequest;
+import dev.juviscript.techdeck.dto.request.timeentry.TimeEntrySyncItem;
+import dev.juviscript.techdeck.dto.response.TimeEntrySyncResponse;
+import dev.juviscript.techdeck.dto.response.TimeEntrySyncResponse.Outcome;
+import dev.juviscript.techdeck.dto.response.TimeEntrySyncResponse.Result;
+import dev.juviscript.techdeck.models.EntryType;
+import dev.juviscript.techdeck.models.TimeEntry;
+import dev.juviscript.techdeck.models.User;
+import dev.juviscript.techdeck.models.WorkOrder;
+import dev.juviscript.techdeck.repositories.TimeEntryRepository;
+import dev.juviscript.techdeck.repositories.TimesheetRollupRepository;
+import dev.juviscript.techdeck.repositories.UserRepository;
+import dev.juviscript.techdeck.repositories.WorkOrderRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class TimeEntryServiceTest {
+
+    private final TimeEntryRepository timeEntryRepository = mock(TimeEntryRepository.class);
+    private final WorkOrderRepository workOrderRepository = mock(WorkOrderRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TimesheetRollupRepository rollupRepository = mock(TimesheetRollupRepository.class);
+    private final ActiveTimerRegistry activeTimerRegistry = mock(ActiveTimerRegistry.class);
+    private final TimeEntryService timeEntryService = new TimeEntryService(timeEntryRepository, workOrderRepository,
+            userRepository, new TimesheetService(rollupRepository), activeTimerRegistry);
+
+    private final UUID technicianId = UUID.randomUUID();
+    private final UUID workOrderId = UUID.randomUUID();
+    // Wednesday 2026-03-04; its ISO week starts Monday 2026-03-02
+    private final LocalDateTime morning = LocalDateTime.of(2026, 3, 4, 8, 0);
+    private final List<TimeEntry> inserted = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User technician = new User();
+        technician.setId(technicianId);
+        when(userRepository.getReferenceById(technicianId)).thenReturn(technician);
+        when(workOrderRepository.getReferenceById(any())).thenAnswer(invocation -> {
+            WorkOrder workOrder = new WorkOrder();
+            workOrder.setId(invocation.getArgument(0));
+            return workOrder;
+        });
+        when(workOrderRepository.findExistingIds(anyCollection())).thenReturn(List.of(workOrderId));
+        when(timeEntryRepository.findOpenByTechnicianId(technicianId)).thenReturn(Optional.empty());
+        when(timeEntryRepository.saveAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<TimeEntry> entries = invocation.getArgument(0);
+            entries.forEach(entry -> entry.setId(UUID.randomUUID()));
+            inserted.addAll(entries);
+            return List.copyOf(entries);
+        });
+    }
+
+    @Test
+    void alreadyStoredAndRepeatedClientIdsComeBackAsDuplicates() {
+        UUID storedClientId = UUID.randomUUID();
+        UUID storedId = UUID.randomUUID();
+        when(timeEntryRepository.findSyncedByClientIdIn(anyCollection()))
+                .thenReturn(List.of(new SyncedTimeEntry(storedClientId, storedId)));
+        TimeEntrySyncItem stored = closedItem(storedClientId, morning, 30);
+        TimeEntrySyncItem fresh = closedItem(UUID.randomUUID(), morning.plusHours(1), 60);
+        TimeEntrySyncItem repeated = closedItem(fresh.getClientId(), morning.plusHours(1), 60);
+
+        TimeEntrySyncResponse response = timeEntryService.syncTimeEntries(technicianId, List.of(stored, fresh, repeated));
+
+        assertThat(response.getCreated()).isEqualTo(1);
+        assertThat(response.getDuplicates()).isEqualTo(2);
+        assertThat(response.getRejected()).isZero();
+        assertThat(response.getResults()).extracting(Result::getOutcome)
+                .containsExactly(Outcome.DUPLICATE, Outcome.CREATED, Outcome.DUPLICATE);
+        // Duplicates report the ID the entry is stored under, so the device can link it
+        UUID freshId = inserted.get(0).getId();
+        assertThat(response.getResults()).extracting(Result::getId).containsExactly(storedId, freshId, freshId);
+        assertThat(inserted).extracting(TimeEntry::getClientId).containsExactly(fresh.getClientId());
+        assertThat(inserted.get(0).isSynced()).isTrue();
+    }
+
+    @Test
+    void syncingTheSameBatchTwiceStoresItOnce() {
+        TimeEntrySyncItem item = closedItem(UUID.randomUUID(), morning, 45);
+        when(timeEntryRepository.findSyncedByClientIdIn(anyCollection())).thenReturn(List.of());
+        TimeEntrySyncResponse first = timeEntryService.syncTimeEntries(technicianId, List.of(item));
+
+        when(timeEntryRepository.findSyncedByClientIdIn(anyCollection()))
+                .thenReturn(List.of(new SyncedTimeEntry(item.getClientId(), first.getResults().get(0).getId())));
+        TimeEntrySyncResponse retry = timeEntryService.syncTimeEntries(technicianId, List.of(item));
+
+        assertThat(retry.getResults()).singleElement().satisfies(result -> {
+            assertThat(result.getOutcome()).isEqualTo(Outcome.DUPLICATE);
+            assertThat(result.getId()).isEqualTo(first.getResults().get(0).getId());
+        });
+        assertThat(inserted).hasSize(1);
+        // Rolled up on the first sync only
+        verify(rollupRepository).addClosedTime(technicianId, LocalDate.of(2026, 3, 4), "ON_SITE",
+                LocalDate.of(2026, 3, 2), 45, 1);
+        verifyNoMoreInteractions(rollupRepository);
+    }
+
+    @Test
+    void onlyOneOpenEntryIsAcceptedPerTechnician() {
+        when(timeEntryRepository.findSyncedByClientIdIn(anyCollection())).thenReturn(List.of());
+        TimeEntrySyncItem firstOpen = openItem(UUID.randomUUID(), morning);
+        TimeEntrySyncItem secondOpen = openItem(UUID.randomUUID(), morning.plusHours(2));
+
+        TimeEntrySyncResponse response = timeEntryService.syncTimeEntries(technicianId, List.of(firstOpen, secondOpen));
+
+        assertThat(response.getResults()).extracting(Result::getOutcome)
+                .containsExactly(Outcome.CREATED, Outcome.REJECTED);
+        assertThat(response.getResults().get(1).getMessage()).isEqualTo("Technician already has an open time entry");
+        assertThat(response.getResults().get(1).getId()).isNull();
+        assertThat(inserted).extracting(TimeEntry::getClientId).containsExactly(firstOpen.getClientId());
+    }
+
+    @Test
+    void openEntryIsRejectedWhenTheTechnicianIsAlreadyClockedIn() {
+        when(timeEntryRepository.findSyncedByClientIdIn(anyCollection())).thenReturn(List.of());
+        when(timeEntryRepository.findOpenByTechnicianId(technicianId)).thenReturn(Optional.of(new TimeEntry()));
+        TimeEntrySyncItem closed = closedItem(UUID.randomUUID(), morning, 30);
+        TimeEntrySyncItem open = openItem(UUID.randomUUID(), morning.plusHours(1));
+
+        TimeEntrySyncResponse response = timeEntryService.syncTimeEntries(technicianId, List.of(closed, open));
+
+        assertThat(response.getResults()).extracting(Result::getOutcome)
+                .containsExactly(Outcome.CREATED, Outcome.REJECTED);
+        verify(activeTimerRegistry, never()).started(any());
+    }
+
+    @Test
+    void closedEntriesAreRolledUpAndTheOpenOneBecomesTheRunningTimer() {
+        when(timeEntryRepository.findSyncedByClientIdIn(anyCollection())).thenReturn(List.of());
+        UUID unknownWorkOrderId = UUID.randomUUID();
+        TimeEntrySyncItem travel = closedItem(UUID.randomUUID(), morning, 20);
+        travel.setEntryType(EntryType.TRAVEL);
+        TimeEntrySyncItem onSite = closedItem(UUID.randomUUID(), morning.plusMinutes(20), 90);
+        TimeEntrySyncItem unknownWorkOrder = closedItem(UUID.randomUUID(), morning, 15);
+        unknownWorkOrder.setWorkOrderId(unknownWorkOrderId);
+        TimeEntrySyncItem reversed = closedItem(UUID.randomUUID(), morning, -10);
+        TimeEntrySyncItem open = openItem(UUID.randomUUID(), morning.plusHours(2));
+
+        TimeEntrySyncResponse response = timeEntryService.syncTimeEntries(technicianId,
+                List.of(travel, onSite, unknownWorkOrder, reversed, open));
+
+        assertThat(response.getResults()).extracting(Result::getOutcome).containsExactly(
+                Outcome.CREATED, Outcome.CREATED, Outcome.REJECTED, Outcome.REJECTED, Outcome.CREATED);
+        assertThat(response.getRejected()).isEqualTo(2);
+
+        // Only accepted closed entries count towards the timesheet
+        LocalDate day = LocalDate.of(2026, 3, 4);
+        LocalDate week = LocalDate.of(2026, 3, 2);
+        verify(rollupRepository).addClosedTime(technicianId, day, "TRAVEL", week, 20, 1);
+        verify(rollupRepository).addClosedTime(technicianId, day, "ON_SITE", week, 90, 1);
+        verifyNoMoreInteractions(rollupRepository);
+
+        TimeEntry openEntry = inserted.get(2);
+        verify(activeTimerRegistry).started(new ActiveTimer(openEntry.getId(), technicianId, workOrderId,
+                EntryType.ON_SITE, open.getStartTime()));
+        verifyNoMoreInteractions(activeTimerRegistry);
+    }
+
+    @Test
+    void batchWithoutOpenEntriesDoesNotLookUpTheRunningTimer() {
+        when(timeEntryRepository.findSyncedByClientIdIn(anyCollection())).thenReturn(List.of());
+
+        timeEntryService.syncTimeEntries(technicianId, List.of(closedItem(UUID.randomUUID(), morning, 30)));
+
+        verify(timeEntryRepository, never()).findOpenByTechnicianId(any());
+        verifyNoInteractions(activeTimerRegistry);
+    }
+
+    @Test
+    void nullEntryInTheRequestIsAValidationError() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        SyncTimeEntriesRequest request = new SyncTimeEntriesRequest(
+                new ArrayList<>(Arrays.asList(closedItem(UUID.randomUUID(), morning, 30), null)));
+
+        Set<ConstraintViolation<SyncTimeEntriesRequest>> violations = validator.validate(request);
+
+        assertThat(violations).extracting(ConstraintViolation::getMessage).containsExactly("Time entry is required");
+    }
+
+    private TimeEntrySyncItem closedItem(UUID clientId, LocalDateTime start, int minutes) {
+        TimeEntrySyncItem item = openItem(clientId, start);
+        item.setEndTime(start.plusMinutes(minutes));
+        return item;
+    }
+
+    private TimeEntrySyncItem openItem(UUID clientId, LocalDateTime start) {
+        return TimeEntrySyncItem.builder()
+                .clientId(clientId)
+                .workOrderId(workOrderId)
+                .entryType(EntryType.ON_SITE)
+                .startTime(start)
+                .build();
+    }
+}
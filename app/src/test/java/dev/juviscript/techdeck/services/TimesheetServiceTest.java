@@ -0,0 +1,80 @@
+package dev.juviscript.techdeck.services;
+
+import dev.juviscript.techdeck.models.EntryType;
+import dev.juviscript.techdeck.models.TimeEntry;
+import dev.juviscript.techdeck.models.User;
+import dev.juviscript.techdeck.repositories.TimesheetRollupRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+class TimesheetServiceTest {
+
+    private final TimesheetRollupRepository repository = mock(TimesheetRollupRepository.class);
+    private final TimesheetService timesheetService = new TimesheetService(repository);
+
+    @Test
+    void recordClosedEntriesUpsertsOncePerTechnicianDayAndType() {
+        UUID technicianId = UUID.randomUUID();
+        // Wednesday 2026-03-04; its ISO week starts Monday 2026-03-02
+        LocalDateTime morning = LocalDateTime.of(2026, 3, 4, 8, 0);
+
+        timesheetService.recordClosedEntries(List.of(
+                entry(technicianId, EntryType.TRAVEL, morning, 30),
+                entry(technicianId, EntryType.ON_SITE, morning.plusHours(1), 90),
+                entry(technicianId, EntryType.ON_SITE, morning.plusHours(3), 45),
+                entry(technicianId, EntryType.ON_SITE, morning.plusHours(5), null)));
+
+        LocalDate day = LocalDate.of(2026, 3, 4);
+        LocalDate week = LocalDate.of(2026, 3, 2);
+        verify(repository).addClosedTime(technicianId, day, "TRAVEL", week, 30, 1);
+        verify(repository).addClosedTime(technicianId, day, "ON_SITE", week, 135, 2);
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void weeklyTotalsCoverWholeWeeks() {
+        UUID technicianId = UUID.randomUUID();
+
+        timesheetService.getTotals(TimesheetService.TimesheetPeriod.WEEK, technicianId,
+                LocalDate.of(2026, 3, 4), LocalDate.of(2026, 3, 15));
+
+        verify(repository).findWeeklyTotals(technicianId, LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 9));
+    }
+
+    @Test
+    void rejectsReversedOrOversizedRanges() {
+        LocalDate from = LocalDate.of(2026, 1, 1);
+
+        assertThatThrownBy(() -> timesheetService.getTotals(TimesheetService.TimesheetPeriod.DAY, null, from, from.minusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> timesheetService.getTotals(TimesheetService.TimesheetPeriod.DAY, null, from, from.plusDays(TimesheetService.MAX_RANGE_DAYS)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(timesheetService.getTotals(TimesheetService.TimesheetPeriod.DAY, null, from, from.plusDays(TimesheetService.MAX_RANGE_DAYS - 1)))
+                .isEmpty();
+    }
+
+    private static TimeEntry entry(UUID technicianId, EntryType type, LocalDateTime start, Integer minutes) {
+        User technician = new User();
+        technician.setId(technicianId);
+
+        TimeEntry entry = new TimeEntry();
+        entry.setTechnician(technician);
+        entry.setEntryType(type);
+        entry.setStartTime(start);
+        if (minutes != null) {
+            entry.setEndTime(start.plusMinutes(minutes));
+            entry.setDurationMinutes(minutes);
+        }
+        return entry;
+    }
+}
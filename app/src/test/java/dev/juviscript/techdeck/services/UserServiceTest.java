@@ -0,0 +1,65 @@
+package dev.juviscript.techdeck.services;
+
+import dev.juviscript.techdeck.dto.request.user.UpdateUserRequest;
+import dev.juviscript.techdeck.models.Role;
+import dev.juviscript.techdeck.models.User;
+import dev.juviscript.techdeck.repositories.UserRepository;
+import dev.juviscript.techdeck.security.TokenRevocationService;
+import dev.juviscript.techdeck.security.UserDetailsServiceImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserServiceTest {
+
+    private final UserRepository repository = mock(UserRepository.class);
+    private final UserService userService = new UserService(repository,
+            mock(TokenRevocationService.class), mock(UserDetailsServiceImpl.class));
+
+    @Test
+    void updateOnlyTouchesTheFieldsInTheRequest() {
+        User stored = user();
+        stored.setActive(false); // Deactivated by another admin after the caller read the user
+        when(repository.findById(stored.getId())).thenReturn(Optional.of(stored));
+        when(repository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        User updated = userService.updateUser(stored.getId(),
+                UpdateUserRequest.builder().phoneNumber("904-555-0100").build(), null).orElseThrow();
+
+        assertThat(updated.getPhoneNumber()).isEqualTo("904-555-0100");
+        assertThat(updated.isActive()).isFalse();
+        assertThat(updated.getRole()).isEqualTo(Role.TECHNICIAN);
+    }
+
+    @Test
+    void staleIfMatchIsRejected() {
+        User stored = user();
+        when(repository.findById(stored.getId())).thenReturn(Optional.of(stored));
+
+        assertThatThrownBy(() -> userService.updateUser(stored.getId(), new UpdateUserRequest(), 2L))
+                .isInstanceOf(PreconditionFailedException.class);
+    }
+
+    @Test
+    void unknownUserIsEmpty() {
+        assertThat(userService.updateUser(UUID.randomUUID(), new UpdateUserRequest(), null)).isEmpty();
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setFirstName("Pat");
+        user.setLastName("Lee");
+        user.setEmail("pat@example.com");
+        user.setRole(Role.TECHNICIAN);
+        user.setVersion(3L);
+        return user;
+    }
+}
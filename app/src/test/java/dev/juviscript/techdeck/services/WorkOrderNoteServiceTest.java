@@ -0,0 +1,188 @@
+package dev.juviscript.techdeck.services;
+
+import dev.juviscript.techdeck.dto.projection.WorkOrderNoteSummary;
+import dev.juviscript.techdeck.dto.request.workorder.CreateWorkOrderNoteRequest;
+import dev.juviscript.techdeck.dto.response.PageResponse;
+import dev.juviscript.techdeck.models.Customer;
+import dev.juviscript.techdeck.models.Role;
+import dev.juviscript.techdeck.models.ServiceLocation;
+import dev.juviscript.techdeck.models.User;
+import dev.juviscript.techdeck.models.WorkOrder;
+import dev.juviscript.techdeck.util.CursorUtils;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import(WorkOrderNoteService.class)
+class WorkOrderNoteServiceTest {
+
+    @Autowired
+    private WorkOrderNoteService workOrderNoteService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User admin;
+    private User technician;
+    private User otherTechnician;
+    private UUID workOrderId;
+
+    // Notes as returned by addNote, in the order they were written
+    private final List<WorkOrderNoteSummary> written = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        admin = user("admin@example.com", Role.ADMIN);
+        technician = user("tech@example.com", Role.TECHNICIAN);
+        otherTechnician = user("other@example.com", Role.TECHNICIAN);
+        workOrderId = workOrder().getId();
+
+        write(admin, "Customer called to confirm", false);
+        write(admin, "Billing dispute, do not discuss price", true);
+        write(technician, "Arrived on site", false);
+        write(technician, "Panel looks unsafe, flag for follow-up", true);
+        write(otherTechnician, "Parts ordered", true);
+        write(otherTechnician, "Job complete", false);
+        write(admin, "Invoice sent", false);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void pagesThroughEveryNoteNewestFirst() {
+        List<UUID> seen = readAll(Role.ADMIN, true, null, 3);
+
+        List<UUID> newestFirst = new ArrayList<>(idsOf(written));
+        Collections.reverse(newestFirst);
+        assertThat(seen).containsExactlyElementsOf(newestFirst);
+    }
+
+    @Test
+    void ascendingCursorKeepsItsDirection() {
+        List<UUID> seen = readAll(Role.ADMIN, true, "asc", 2);
+
+        assertThat(seen).containsExactlyElementsOf(idsOf(written));
+    }
+
+    @Test
+    void techniciansAreStaffAndSeeInternalNotes() {
+        List<UUID> seen = readAll(Role.TECHNICIAN, true, "asc", 2);
+
+        assertThat(seen).containsExactlyElementsOf(idsOf(written));
+    }
+
+    @Test
+    void withoutARoleOnlyCustomerVisibleNotesAreReturned() {
+        List<UUID> seen = readAll(null, true, "asc", 10);
+
+        assertThat(seen).containsExactlyElementsOf(idsOf(written.stream().filter(note -> !note.isInternal()).toList()));
+    }
+
+    @Test
+    void customerViewLeavesOutInternalNotes() {
+        List<UUID> seen = readAll(Role.ADMIN, false, "asc", 2);
+
+        assertThat(seen).containsExactlyElementsOf(idsOf(written.stream().filter(note -> !note.isInternal()).toList()));
+    }
+
+    @Test
+    void unknownWorkOrderHasNoTimeline() {
+        assertThat(workOrderNoteService.getTimeline(UUID.randomUUID(), Role.ADMIN, true, null, null, null))
+                .isEmpty();
+        assertThatThrownBy(() -> workOrderNoteService.addNote(UUID.randomUUID(), admin.getId(), request("Hello", false)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> workOrderNoteService.getTimeline(workOrderId, Role.ADMIN, true, null, "nope", null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        String badTimestamp = CursorUtils.encode("ASC", "yesterday", UUID.randomUUID().toString());
+        assertThatThrownBy(() -> workOrderNoteService.getTimeline(workOrderId, Role.ADMIN, true, null, badTimestamp, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    /**
+     * Follow nextCursor until the last page, collecting note ids in the order returned
+     */
+    private List<UUID> readAll(Role viewerRole, boolean includeInternal, String direction, int size) {
+        List<UUID> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            PageResponse<WorkOrderNoteSummary> page = workOrderNoteService
+                    .getTimeline(workOrderId, viewerRole, includeInternal, direction, cursor, size)
+                    .orElseThrow();
+            assertThat(page.getItems()).hasSizeLessThanOrEqualTo(size);
+            page.getItems().forEach(note -> seen.add(note.id()));
+            cursor = page.getNextCursor();
+            assertThat(cursor != null).isEqualTo(page.isHasMore());
+        } while (cursor != null);
+        return seen;
+    }
+
+    private void write(User author, String content, boolean internal) {
+        WorkOrderNoteSummary note = workOrderNoteService.addNote(workOrderId, author.getId(), request(content, internal));
+        assertThat(note.createdByFirstName()).isEqualTo(author.getFirstName());
+        written.add(note);
+    }
+
+    private static CreateWorkOrderNoteRequest request(String content, boolean internal) {
+        return CreateWorkOrderNoteRequest.builder().noteContent(content).isInternal(internal).build();
+    }
+
+    private static List<UUID> idsOf(List<WorkOrderNoteSummary> notes) {
+        return notes.stream().map(WorkOrderNoteSummary::id).toList();
+    }
+
+    private User user(String email, Role role) {
+        User user = new User();
+        user.setFirstName("First");
+        user.setLastName("Last");
+        user.setEmail(email);
+        user.setPassword("hash");
+        user.setRole(role);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private WorkOrder workOrder() {
+        Customer customer = new Customer();
+        customer.setFirstName("First");
+        customer.setLastName("Last");
+        customer.setEmail("customer@example.com");
+        ServiceLocation location = new ServiceLocation();
+        location.setCustomer(customer);
+        location.setAddressLine1("1 Main Street");
+        location.setCity("Jacksonville");
+        location.setState("FL");
+        location.setZipCode("32202");
+        customer.getServiceLocations().add(location);
+        entityManager.persist(customer);
+
+        WorkOrder workOrder = new WorkOrder();
+        workOrder.setCustomer(customer);
+        workOrder.setServiceLocation(location);
+        workOrder.setScheduledDateTime(LocalDateTime.of(2026, 5, 1, 9, 0));
+        entityManager.persist(workOrder);
+        return workOrder;
+    }
+}
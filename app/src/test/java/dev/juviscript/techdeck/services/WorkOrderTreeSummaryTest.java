@@ -0,0 +1,47 @@
+package dev.juviscript.techdeck.services;
+
+import dev.juviscript.techdeck.dto.projection.WorkOrderTreeNode;
+import dev.juviscript.techdeck.dto.projection.WorkOrderTreeTotals;
+import dev.juviscript.techdeck.models.Status;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkOrderTreeSummaryTest {
+
+    @Test
+    void rollsUpTimePriceAndStatusAcrossTheTree() {
+        UUID survey = UUID.randomUUID();
+        UUID installation = UUID.randomUUID();
+
+        WorkOrderTreeTotals totals = WorkOrderManagementService.summarize(List.of(
+                node(survey, null, 0, Status.COMPLETED, 60, "150.00", 75),
+                node(installation, survey, 1, Status.IN_PROGRESS, 240, "1200.00", 130),
+                node(UUID.randomUUID(), installation, 2, Status.SCHEDULED, null, "80.00", 0),
+                node(UUID.randomUUID(), installation, 2, Status.CANCELED, 30, "99.00", 0)));
+
+        assertThat(totals.workOrderCount()).isEqualTo(4);
+        assertThat(totals.maxDepth()).isEqualTo(2);
+        // Canceled work is part of neither the planned time nor the quoted total
+        assertThat(totals.estimatedMinutes()).isEqualTo(300);
+        assertThat(totals.quotedPrice()).isEqualByComparingTo("1430.00");
+        assertThat(totals.loggedMinutes()).isEqualTo(205);
+        assertThat(totals.statusCounts())
+                .containsEntry(Status.COMPLETED, 1L)
+                .containsEntry(Status.IN_PROGRESS, 1L)
+                .containsEntry(Status.SCHEDULED, 1L)
+                .containsEntry(Status.CANCELED, 1L)
+                .hasSize(4);
+    }
+
+    private static WorkOrderTreeNode node(UUID id, UUID parentId, int depth, Status status,
+                                          Integer estimatedMinutes, String quotedPrice, long loggedMinutes) {
+        return new WorkOrderTreeNode(id, parentId, depth, status, LocalDateTime.of(2026, 5, 1, 9, 0),
+                estimatedMinutes, new BigDecimal(quotedPrice), null, loggedMinutes);
+    }
+}
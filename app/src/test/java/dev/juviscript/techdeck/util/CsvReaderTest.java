@@ -0,0 +1,76 @@
+package dev.juviscript.techdeck.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @Test
+    void readsPlainRecordsWithEitherLineEnding() throws IOException {
+        assertThat(readAll("a,b,c\nd,e,f\r\ng,h,i")).containsExactly(
+                List.of("a", "b", "c"),
+                List.of("d", "e", "f"),
+                List.of("g", "h", "i"));
+    }
+
+    @Test
+    void keepsEmptyFields() throws IOException {
+        assertThat(readAll(",x,\n")).containsExactly(List.of("", "x", ""));
+    }
+
+    @Test
+    void quotedFieldsMayContainCommasNewlinesAndDoubledQuotes() throws IOException {
+        String csv = "name,notes\n"
+                + "\"Doe, Jane\",\"Gate code 1234\nRing twice\"\n"
+                + "\"Smith\",\"Says \"\"hi\"\"\"\r\n";
+
+        assertThat(readAll(csv)).containsExactly(
+                List.of("name", "notes"),
+                List.of("Doe, Jane", "Gate code 1234\nRing twice"),
+                List.of("Smith", "Says \"hi\""));
+    }
+
+    @Test
+    void quotedCarriageReturnsAreKept() throws IOException {
+        assertThat(readAll("\"a\r\nb\",c\r\n")).containsExactly(List.of("a\r\nb", "c"));
+    }
+
+    @Test
+    void quoteInsideAnUnquotedFieldIsLiteral() throws IOException {
+        assertThat(readAll("5'10\" door,x\n")).containsExactly(List.of("5'10\" door", "x"));
+    }
+
+    @Test
+    void unterminatedQuoteAtEndOfFileIsRejected() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("ok,row\n\"never closed,here\n"));
+
+        assertThat(reader.readRecord()).containsExactly("ok", "row");
+        assertThatThrownBy(reader::readRecord)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unterminated quoted field");
+    }
+
+    @Test
+    void returnsNullAtEndOfInput() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader(""));
+
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    private static List<List<String>> readAll(String csv) throws IOException {
+        CsvReader reader = new CsvReader(new StringReader(csv));
+        List<List<String>> records = new ArrayList<>();
+        List<String> record;
+        while ((record = reader.readRecord()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+}
@@ -0,0 +1,56 @@
+package dev.juviscript.techdeck.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ETagsTest {
+
+    @Test
+    void formatsVersionAsQuotedTag() {
+        assertThat(ETags.of(3L)).isEqualTo("\"3\"");
+        assertThat(ETags.of(null)).isEqualTo("\"0\"");
+    }
+
+    @Test
+    void compositeTagChangesWithChildrenButNotTheirOrder() {
+        Map<String, Long> children = new LinkedHashMap<>();
+        children.put("a", 1L);
+        children.put("b", 2L);
+        Map<String, Long> reordered = new LinkedHashMap<>();
+        reordered.put("b", 2L);
+        reordered.put("a", 1L);
+
+        String eTag = ETags.of(3L, children);
+        assertThat(eTag).startsWith("\"3-").endsWith("\"");
+        assertThat(ETags.of(3L, reordered)).isEqualTo(eTag);
+        assertThat(ETags.of(3L, Map.of("a", 1L, "b", 3L))).isNotEqualTo(eTag);
+        assertThat(ETags.of(3L, Map.of("a", 1L))).isNotEqualTo(eTag);
+        assertThat(ETags.of(3L, Map.of())).isNotEqualTo(ETags.of(4L, Map.of()));
+    }
+
+    @Test
+    void ifNoneMatchUsesWeakComparison() {
+        assertThat(ETags.matches("\"3\"", "\"3\"")).isTrue();
+        assertThat(ETags.matches("W/\"3\"", "\"3\"")).isTrue();
+        assertThat(ETags.matches("\"1\", \"3\"", "\"3\"")).isTrue();
+        assertThat(ETags.matches("*", "\"3\"")).isTrue();
+        assertThat(ETags.matches("\"2\"", "\"3\"")).isFalse();
+        assertThat(ETags.matches(null, "\"3\"")).isFalse();
+    }
+
+    @Test
+    void ifMatchYieldsExpectedVersion() {
+        assertThat(ETags.expectedVersion(null)).isNull();
+        assertThat(ETags.expectedVersion("*")).isNull();
+        assertThat(ETags.expectedVersion("\"7\"")).isEqualTo(7L);
+        assertThat(ETags.expectedVersion("\"7-1f0c2a9b3d4e5f60\"")).isEqualTo(7L);
+        // Weak and malformed tags never match
+        assertThat(ETags.expectedVersion("W/\"7\"")).isEqualTo(-1L);
+        assertThat(ETags.expectedVersion("7")).isEqualTo(-1L);
+        assertThat(ETags.expectedVersion("\"abc\"")).isEqualTo(-1L);
+    }
+}
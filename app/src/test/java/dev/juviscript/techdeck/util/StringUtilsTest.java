@@ -0,0 +1,95 @@
+package dev.juviscript.techdeck.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The char-scanning normalizers must produce exactly what the regex/split versions did.
+ * The previous implementations are kept here as the reference and compared on random input
+ * mixing ASCII, every \s whitespace char, control chars, non-ASCII letters with special
+ * case mappings and a surrogate pair.
+ */
+class StringUtilsTest {
+
+    private static final String ALPHABET = "abcXYZijIK09-5 \t\n\u000B\f\r\u0001"
+            + "éÉßΣσİıǅ.,'\""
+            + "😀";
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    void matchesPreviousImplementationsOnRandomInput() {
+        Random random = new Random(42);
+        for (int n = 0; n < SAMPLES; n++) {
+            String value = randomString(random);
+
+            assertThat(StringUtils.normalizePhone(value)).as("normalizePhone [%s]", value).isEqualTo(previousNormalizePhone(value));
+            assertThat(StringUtils.normalizeZipCode(value)).as("normalizeZipCode [%s]", value).isEqualTo(previousNormalizeZipCode(value));
+
+            // The previous versions threw on whitespace-only input; the new ones return ""
+            if (!value.isEmpty() && value.trim().isEmpty()) {
+                assertThat(StringUtils.capitalizeFirst(value)).isEmpty();
+                assertThat(StringUtils.capitalizeWords(value)).isEmpty();
+                continue;
+            }
+            assertThat(StringUtils.capitalizeFirst(value)).as("capitalizeFirst [%s]", value).isEqualTo(previousCapitalizeFirst(value));
+            assertThat(StringUtils.capitalizeWords(value)).as("capitalizeWords [%s]", value).isEqualTo(previousCapitalizeWords(value));
+        }
+    }
+
+    @Test
+    void normalizesDocumentedExamples() {
+        assertThat(StringUtils.capitalizeFirst("jOHN")).isEqualTo("John");
+        assertThat(StringUtils.capitalizeWords("jOHN dOE")).isEqualTo("John Doe");
+        assertThat(StringUtils.normalizeAddress("  123 main STREET  ")).isEqualTo("123 Main Street");
+        assertThat(StringUtils.normalizePhone("(555) 123-4567")).isEqualTo("5551234567");
+        assertThat(StringUtils.normalizePhone("n/a")).isNull();
+        assertThat(StringUtils.normalizeZipCode(" 32063-1234 ")).isEqualTo("32063-1234");
+    }
+
+    private static String randomString(Random random) {
+        int length = random.nextInt(12);
+        StringBuilder value = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            value.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return value.toString();
+    }
+
+    private static String previousCapitalizeFirst(String value) {
+        if (value == null || value.isEmpty()) return value;
+        value = value.trim();
+        if (value.length() == 1) return value.toUpperCase();
+        return value.substring(0, 1).toUpperCase() + value.substring(1).toLowerCase();
+    }
+
+    private static String previousCapitalizeWords(String value) {
+        if (value == null || value.isEmpty()) return value;
+        String[] words = value.trim().split("\\s+");
+        StringBuilder result = new StringBuilder();
+        for (String word : words) {
+            if (!result.isEmpty()) result.append(" ");
+            if (word.length() == 1) {
+                result.append(word.toUpperCase());
+            } else {
+                result.append(word.substring(0, 1).toUpperCase())
+                        .append(word.substring(1).toLowerCase());
+            }
+        }
+        return result.toString();
+    }
+
+    private static String previousNormalizePhone(String phone) {
+        if (phone == null) return null;
+        String digits = phone.replaceAll("[^0-9]", "");
+        return digits.isEmpty() ? null : digits;
+    }
+
+    private static String previousNormalizeZipCode(String zipCode) {
+        if (zipCode == null) return null;
+        return zipCode.trim().replaceAll("[^0-9-]", "");
+    }
+}
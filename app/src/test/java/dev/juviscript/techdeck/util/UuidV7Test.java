@@ -0,0 +1,42 @@
+package dev.juviscript.techdeck.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7Test {
+
+    @Test
+    void setsVersionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.generate();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7.timestampOf(uuid)).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    void isStrictlyIncreasingWithinOneMillisecond() {
+        // More IDs than the 12-bit sequence holds, all at the same clock reading
+        long now = System.currentTimeMillis();
+        UUID previous = UuidV7.generate(now);
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = UuidV7.generate(now);
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void staysIncreasingWhenClockGoesBack() {
+        long now = System.currentTimeMillis();
+        UUID first = UuidV7.generate(now);
+        UUID second = UuidV7.generate(now - 60_000);
+
+        assertThat(second).isGreaterThan(first);
+        assertThat(second.version()).isEqualTo(7);
+    }
+}